@@ -0,0 +1,122 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import utils.TestDataGenerator;
+import utils.TestDataGenerator.TaskTestData;
+import utils.TestDataGenerator.UserTestData;
+
+/**
+ * Línea base de rendimiento de {@link TestDataGenerator}.
+ *
+ * Mide operaciones por segundo de cada método generador con 1, 4 y 16 hilos
+ * (clases SingleThread, FourThreads y SixteenThreads), para ver tanto el costo
+ * por llamada como la contención en el Random y el contador compartidos. Con
+ * "-prof gc" (el valor por defecto de la tarea jmh) se informa además la
+ * asignación de memoria por operación.
+ *
+ * Ejecutar con: gradle jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class TestDataGeneratorBenchmark {
+
+    @Benchmark
+    public String generateUniqueEmail() {
+        return TestDataGenerator.generateUniqueEmail();
+    }
+
+    @Benchmark
+    public String generateUniqueEmailWithDomain() {
+        return TestDataGenerator.generateUniqueEmail("sentra.cl");
+    }
+
+    @Benchmark
+    public String generateFirstName() {
+        return TestDataGenerator.generateFirstName();
+    }
+
+    @Benchmark
+    public String generateLastName() {
+        return TestDataGenerator.generateLastName();
+    }
+
+    @Benchmark
+    public String generateUniqueUsername() {
+        return TestDataGenerator.generateUniqueUsername();
+    }
+
+    @Benchmark
+    public String generatePassword() {
+        return TestDataGenerator.generatePassword();
+    }
+
+    @Benchmark
+    public String generateLongPassword() {
+        return TestDataGenerator.generatePassword(64);
+    }
+
+    @Benchmark
+    public String generateUniqueTaskTitle() {
+        return TestDataGenerator.generateUniqueTaskTitle();
+    }
+
+    @Benchmark
+    public String generateTaskDescription() {
+        return TestDataGenerator.generateTaskDescription();
+    }
+
+    @Benchmark
+    public int generateTaskPriority() {
+        return TestDataGenerator.generateTaskPriority();
+    }
+
+    @Benchmark
+    public int generateTaskPriorityInRange() {
+        return TestDataGenerator.generateTaskPriority(1, 10);
+    }
+
+    @Benchmark
+    public UserTestData generateUserTestData() {
+        return TestDataGenerator.generateUserTestData();
+    }
+
+    @Benchmark
+    public TaskTestData generateTaskTestData() {
+        return TestDataGenerator.generateTaskTestData();
+    }
+
+    @Benchmark
+    public String generateInvalidEmail() {
+        return TestDataGenerator.generateInvalidEmail();
+    }
+
+    @Benchmark
+    public String generateExistingEmail() {
+        return TestDataGenerator.generateExistingEmail();
+    }
+
+    @Threads(1)
+    public static class SingleThread extends TestDataGeneratorBenchmark {
+    }
+
+    @Threads(4)
+    public static class FourThreads extends TestDataGeneratorBenchmark {
+    }
+
+    @Threads(16)
+    public static class SixteenThreads extends TestDataGeneratorBenchmark {
+    }
+}
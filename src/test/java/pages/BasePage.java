@@ -1,21 +1,88 @@
 package pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+import utils.LocatorRegistry;
+import utils.NetworkTracker;
+import utils.PerformanceCollector;
 
 public class BasePage {
 
+    // Configuración del motor de esperas (sobrescribible con -Dwait.*)
+    protected static final Duration POLLING =
+            Duration.ofMillis(Long.getLong("wait.pollingMillis", 100));
+    protected static final Duration QUIET_PERIOD =
+            Duration.ofMillis(Long.getLong("wait.quietMillis", 300));
+    protected static final Duration SETTLE_TIMEOUT =
+            Duration.ofSeconds(Long.getLong("wait.timeoutSeconds", 10));
+
+    /**
+     * Instrumentación idempotente de la página: cuenta peticiones XHR/fetch en curso,
+     * registra la última mutación del DOM y, si React expone su hook de devtools,
+     * el último commit. Retorna el estado actual en un solo viaje al navegador.
+     *
+     * Solo cuenta peticiones iniciadas después de instalarse, y una navegación completa
+     * la borra; por eso {@link #networkMark()} la instala antes de cada acción.
+     */
+    private static final String PAGE_STATE_SCRIPT =
+            "var w = window.__sentraWait;"
+            + "if (!w) {"
+            + "  w = window.__sentraWait = { pending: 0, lastMutation: Date.now(), lastCommit: 0, reactHooked: false };"
+            + "  try {"
+            + "    new MutationObserver(function () { w.lastMutation = Date.now(); })"
+            + "      .observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });"
+            + "  } catch (e) {}"
+            + "  var send = XMLHttpRequest.prototype.send;"
+            + "  XMLHttpRequest.prototype.send = function () {"
+            + "    w.pending++;"
+            + "    this.addEventListener('loadend', function () { w.pending = Math.max(0, w.pending - 1); });"
+            + "    return send.apply(this, arguments);"
+            + "  };"
+            + "  if (window.fetch) {"
+            + "    var fetch = window.fetch;"
+            + "    window.fetch = function () {"
+            + "      w.pending++;"
+            + "      var done = function () { w.pending = Math.max(0, w.pending - 1); };"
+            + "      var result = fetch.apply(this, arguments);"
+            + "      result.then(done, done);"
+            + "      return result;"
+            + "    };"
+            + "  }"
+            + "  var hook = window.__REACT_DEVTOOLS_GLOBAL_HOOK__;"
+            + "  if (hook && typeof hook.onCommitFiberRoot === 'function') {"
+            + "    var commit = hook.onCommitFiberRoot;"
+            + "    hook.onCommitFiberRoot = function () { w.lastCommit = Date.now(); return commit.apply(this, arguments); };"
+            + "    w.reactHooked = true;"
+            + "  }"
+            + "}"
+            + "var now = Date.now();"
+            + "return { ready: document.readyState, pending: w.pending,"
+            + "  sinceMutation: now - w.lastMutation,"
+            + "  sinceCommit: w.reactHooked ? now - Math.max(w.lastCommit, w.lastMutation) : -1 };";
+
     protected WebDriver driver;
     protected WebDriverWait wait;
 
     public BasePage(WebDriver driver) {
+        this(driver, Duration.ofSeconds(10));
+    }
+
+    public BasePage(WebDriver driver, Duration timeout) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.wait = new WebDriverWait(driver, timeout);
     }
 
     protected WebElement waitForElement(By locator) {
@@ -31,4 +98,193 @@ public class BasePage {
         element.clear();
         element.sendKeys(text);
     }
+
+    // ---------- Motor de esperas por condición ----------
+
+    /**
+     * Espera hasta que la condición retorne un valor no nulo ni false, consultando
+     * cada POLLING. Lanza TimeoutException si no se cumple en el tiempo dado.
+     */
+    protected <T> T waitUntil(Function<WebDriver, T> condition, Duration timeout) {
+        return new FluentWait<>(driver)
+                .withTimeout(timeout)
+                .pollingEvery(POLLING)
+                .ignoring(NoSuchElementException.class, StaleElementReferenceException.class)
+                .until(condition);
+    }
+
+    /**
+     * Igual que waitUntil, pero retorna false en lugar de lanzar excepción si se agota el tiempo.
+     * Sirve para reemplazar pausas fijas seguidas de una verificación.
+     */
+    protected boolean waitUntilQuietly(Function<WebDriver, ?> condition, Duration timeout) {
+        try {
+            waitUntil(condition, timeout);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Espera a que no haya peticiones pendientes. Con DevTools disponible se usan los
+     * eventos de red del navegador; si no, la cuenta de XHR/fetch de la página más
+     * QUIET_PERIOD sin cambios en el DOM. La cuenta no ve peticiones iniciadas antes de
+     * instalarse (llamar a {@link #networkMark()} antes de la acción); la quietud del DOM
+     * cubre las que igual se escapen, siempre que su respuesta cambie la página.
+     */
+    protected boolean waitForPendingRequests(Duration timeout) {
+        NetworkTracker network = NetworkTracker.forDriver(driver);
+        if (network != null) {
+            return network.waitForIdle(Duration.ZERO, timeout);
+        }
+        return waitUntilQuietly(d -> {
+            PageState state = readPageState();
+            return state.pending == 0 && state.sinceMutation >= QUIET_PERIOD.toMillis();
+        }, timeout);
+    }
+
+    /**
+     * Marca para {@link #waitForRequest}: se toma antes de la acción que dispara la petición.
+     * Sin DevTools instala en ese momento la cuenta de XHR/fetch de la página, para que
+     * incluya la petición que dispare la acción.
+     */
+    protected long networkMark() {
+        NetworkTracker network = NetworkTracker.forDriver(driver);
+        if (network != null) {
+            return network.mark();
+        }
+        readPageState();
+        return 0;
+    }
+
+    /**
+     * Espera a que el backend responda una petición cuya URL contenga urlPattern, iniciada
+     * después de la marca. Termina antes si la red queda inactiva sin esa petición. Sin
+     * DevTools espera a que la página se asiente.
+     */
+    protected boolean waitForRequest(String urlPattern, long mark, Duration timeout) {
+        NetworkTracker network = NetworkTracker.forDriver(driver);
+        if (network != null) {
+            return network.waitForRequest(urlPattern, mark, QUIET_PERIOD, timeout);
+        }
+        return waitForPageSettled();
+    }
+
+    /**
+     * Espera a que el DOM no cambie durante el período de quietud indicado
+     */
+    protected boolean waitForDomQuiet(Duration quietPeriod, Duration timeout) {
+        return waitUntilQuietly(d -> readPageState().sinceMutation >= quietPeriod.toMillis(), timeout);
+    }
+
+    /**
+     * Espera a que React no haga commits durante el período indicado. Si la página no expone
+     * el hook de React, se usa la quietud del DOM, ya que cada commit visible modifica el DOM.
+     */
+    protected boolean waitForReactIdle(Duration quietPeriod, Duration timeout) {
+        return waitUntilQuietly(d -> {
+            PageState state = readPageState();
+            long idle = state.sinceCommit >= 0 ? state.sinceCommit : state.sinceMutation;
+            return idle >= quietPeriod.toMillis();
+        }, timeout);
+    }
+
+    /**
+     * Espera a que la página termine de asentarse: documento cargado, sin peticiones
+     * pendientes y sin cambios en el DOM durante QUIET_PERIOD. Retorna false si no ocurre
+     * dentro de SETTLE_TIMEOUT, sin lanzar excepción.
+     */
+    protected boolean waitForPageSettled() {
+        // Con DevTools la red se espera por eventos, sin consultar la página
+        NetworkTracker network = NetworkTracker.forDriver(driver);
+        if (network != null && !network.waitForIdle(QUIET_PERIOD, SETTLE_TIMEOUT)) {
+            return false;
+        }
+        return waitUntilQuietly(d -> {
+            PageState state = readPageState();
+            return !state.ready.equals("loading")
+                    && (network != null || state.pending == 0)
+                    && state.sinceMutation >= QUIET_PERIOD.toMillis();
+        }, SETTLE_TIMEOUT);
+    }
+
+    /**
+     * Registra las métricas de rendimiento de la página después de una navegación o
+     * acción de modal (ver {@link PerformanceCollector})
+     */
+    protected void capturePerformance(String action) {
+        PerformanceCollector.capture(driver, getClass().getSimpleName(), action);
+    }
+
+    /**
+     * Retorna true si algún localizador encuentra al menos un elemento
+     */
+    protected boolean isAnyPresent(By... locators) {
+        for (By locator : locators) {
+            if (!driver.findElements(locator).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Busca un elemento lógico probando todos sus localizadores alternativos en una sola
+     * consulta (ver LocatorRegistry). Retorna null si ninguno encuentra el elemento.
+     */
+    protected WebElement findFirstVisible(String key, By... candidates) {
+        return LocatorRegistry.findFirstVisible(driver, key, candidates);
+    }
+
+    /**
+     * Igual que findFirstVisible, pero reintenta hasta que algún candidato aparezca.
+     * Retorna null si se agota el tiempo.
+     */
+    protected WebElement waitForFirstVisible(String key, Duration timeout, By... candidates) {
+        try {
+            return waitUntil(d -> LocatorRegistry.findFirstVisible(d, key, candidates), timeout);
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    private PageState readPageState() {
+        Object result = ((JavascriptExecutor) driver).executeScript(PAGE_STATE_SCRIPT);
+        return PageState.from(result);
+    }
+
+    /**
+     * Estado de actividad de la página leído en una sola consulta
+     */
+    private static class PageState {
+        private final String ready;
+        private final long pending;
+        private final long sinceMutation;
+        private final long sinceCommit;
+
+        private PageState(String ready, long pending, long sinceMutation, long sinceCommit) {
+            this.ready = ready;
+            this.pending = pending;
+            this.sinceMutation = sinceMutation;
+            this.sinceCommit = sinceCommit;
+        }
+
+        private static PageState from(Object result) {
+            if (!(result instanceof Map)) {
+                // Sin JavaScript disponible no se puede esperar actividad; se considera quieta
+                return new PageState("complete", 0, Long.MAX_VALUE, -1);
+            }
+            Map<?, ?> values = (Map<?, ?>) result;
+            return new PageState(
+                    String.valueOf(values.get("ready")),
+                    toLong(values.get("pending")),
+                    toLong(values.get("sinceMutation")),
+                    toLong(values.get("sinceCommit")));
+        }
+
+        private static long toLong(Object value) {
+            return value instanceof Number ? ((Number) value).longValue() : 0;
+        }
+    }
 }
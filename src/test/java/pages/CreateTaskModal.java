@@ -1,9 +1,12 @@
 package pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+import java.time.Duration;
+
 public class CreateTaskModal extends BasePage {
 
     // Updated selectors based on debug information - avoid ID conflicts
@@ -33,42 +36,44 @@ public class CreateTaskModal extends BasePage {
     
     private By modalDialog = By.cssSelector("div[role='dialog'], .modal, [class*='modal']");
 
+    private static final Duration FIELD_CLEAR_TIMEOUT = Duration.ofSeconds(2);
+
     public CreateTaskModal(WebDriver driver) {
         super(driver);
     }
 
     public void fillTitle(String title) {
-        WebElement element = findElementWithFallback(titleInput, titleInputFallback);
+        WebElement element = findElementWithFallback("titleInput", titleInput, titleInputFallback);
         element.clear();
-        try { Thread.sleep(200); } catch (InterruptedException e) { /* ignore */ }
+        waitForValueCleared(element);
         element.sendKeys(title);
         // Trigger change event
         ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].dispatchEvent(new Event('change', { bubbles: true }));", element);
     }
 
     public void fillDescription(String description) {
-        WebElement element = findElementWithFallback(descriptionInput, descriptionInputFallback);
+        WebElement element = findElementWithFallback("descriptionInput", descriptionInput, descriptionInputFallback);
         element.clear();
-        try { Thread.sleep(200); } catch (InterruptedException e) { /* ignore */ }
+        waitForValueCleared(element);
         element.sendKeys(description);
         // Trigger change event
         ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].dispatchEvent(new Event('change', { bubbles: true }));", element);
     }
 
     public void fillPriority(int priority) {
-        WebElement element = findElementWithFallback(priorityInput, priorityInputFallback);
+        WebElement element = findElementWithFallback("priorityInput", priorityInput, priorityInputFallback);
         element.clear();
-        try { Thread.sleep(200); } catch (InterruptedException e) { /* ignore */ }
+        waitForValueCleared(element);
         element.sendKeys(String.valueOf(priority));
         // Trigger change event
         ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].dispatchEvent(new Event('change', { bubbles: true }));", element);
     }
 
     public void fillDate(String date) {
-        WebElement element = findElementWithFallback(dateInput, dateInputFallback);
-        // Clear the field first and wait a moment
+        WebElement element = findElementWithFallback("dateInput", dateInput, dateInputFallback);
+        // Clear the field first and wait until the form reflects it
         element.clear();
-        try { Thread.sleep(500); } catch (InterruptedException e) { /* ignore */ }
+        waitForValueCleared(element);
         // Use JavaScript to set the value directly for datetime-local inputs
         ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].value = arguments[1];", element, date);
         // Trigger change event to ensure the form recognizes the new value
@@ -92,7 +97,9 @@ public class CreateTaskModal extends BasePage {
     }
 
     public void submit() {
-        WebElement element = findElementWithFallback(saveButton, saveButtonFallback);
+        WebElement element = findElementWithFallback("saveButton", saveButton, saveButtonFallback);
+        // La espera posterior de la lista debe ver la petición de creación
+        networkMark();
         click(element);
     }
 
@@ -107,14 +114,27 @@ public class CreateTaskModal extends BasePage {
 
     /**
      * Helper method to find element with fallback selector for better reliability
+     * Both selectors are probed in a single script; the registry remembers which one works.
+     * Waits for a visible match, since the modal fields are not visible while it opens
      * Requirements: 6.1, 6.2
      */
-    private WebElement findElementWithFallback(By primarySelector, By fallbackSelector) {
-        try {
-            return driver.findElement(primarySelector);
-        } catch (Exception e) {
-            return driver.findElement(fallbackSelector);
+    private WebElement findElementWithFallback(String name, By primarySelector, By fallbackSelector) {
+        WebElement element = waitForFirstVisible("CreateTaskModal." + name, SETTLE_TIMEOUT, primarySelector, fallbackSelector);
+        if (element == null) {
+            throw new NoSuchElementException("Could not find " + name + " using " + primarySelector + " or " + fallbackSelector);
         }
+        return element;
+    }
+
+    /**
+     * Waits until the input value is actually empty after clear(), so the form
+     * state is updated before typing the new value
+     */
+    private void waitForValueCleared(WebElement element) {
+        waitUntilQuietly(d -> {
+            String value = element.getAttribute("value");
+            return value == null || value.isEmpty();
+        }, FIELD_CLEAR_TIMEOUT);
     }
 
     /**
@@ -141,7 +161,7 @@ public class CreateTaskModal extends BasePage {
     public boolean isTaskCreationSuccessful() {
         try {
             // Wait for modal to close after successful creation
-            Thread.sleep(2000);
+            waitUntilQuietly(d -> d.findElements(saveButton).isEmpty(), SETTLE_TIMEOUT);
             
             // Check if modal is no longer visible using optimized selectors
             try {
@@ -201,10 +221,10 @@ public class CreateTaskModal extends BasePage {
      */
     public boolean areRequiredFieldsFilled() {
         try {
-            WebElement titleElement = findElementWithFallback(titleInput, titleInputFallback);
-            WebElement descriptionElement = findElementWithFallback(descriptionInput, descriptionInputFallback);
-            WebElement priorityElement = findElementWithFallback(priorityInput, priorityInputFallback);
-            WebElement dateElement = findElementWithFallback(dateInput, dateInputFallback);
+            WebElement titleElement = findElementWithFallback("titleInput", titleInput, titleInputFallback);
+            WebElement descriptionElement = findElementWithFallback("descriptionInput", descriptionInput, descriptionInputFallback);
+            WebElement priorityElement = findElementWithFallback("priorityInput", priorityInput, priorityInputFallback);
+            WebElement dateElement = findElementWithFallback("dateInput", dateInput, dateInputFallback);
             
             return !titleElement.getAttribute("value").trim().isEmpty() &&
                    !descriptionElement.getAttribute("value").trim().isEmpty() &&
@@ -221,10 +241,10 @@ public class CreateTaskModal extends BasePage {
      */
     public TaskFormData getFormData() {
         try {
-            WebElement titleElement = findElementWithFallback(titleInput, titleInputFallback);
-            WebElement descriptionElement = findElementWithFallback(descriptionInput, descriptionInputFallback);
-            WebElement priorityElement = findElementWithFallback(priorityInput, priorityInputFallback);
-            WebElement dateElement = findElementWithFallback(dateInput, dateInputFallback);
+            WebElement titleElement = findElementWithFallback("titleInput", titleInput, titleInputFallback);
+            WebElement descriptionElement = findElementWithFallback("descriptionInput", descriptionInput, descriptionInputFallback);
+            WebElement priorityElement = findElementWithFallback("priorityInput", priorityInput, priorityInputFallback);
+            WebElement dateElement = findElementWithFallback("dateInput", dateInput, dateInputFallback);
             
             String title = titleElement.getAttribute("value");
             String description = descriptionElement.getAttribute("value");
@@ -3,14 +3,10 @@ package pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
-public class EditUserModal {
-
-    private WebDriver driver;
-    private WebDriverWait wait;
+public class EditUserModal extends BasePage {
 
     private By nameInput =
             By.xpath("//label[text()='Nombre']/following::input[1]");
@@ -39,8 +35,7 @@ public class EditUserModal {
 
 
     public EditUserModal(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        super(driver, Duration.ofSeconds(10));
     }
 
     public void updateName(String name) {
@@ -59,6 +54,8 @@ public class EditUserModal {
     }
 
     public void saveChanges() {
+        // La espera posterior del perfil debe ver la petición de guardado
+        networkMark();
         wait.until(ExpectedConditions.elementToBeClickable(saveButton)).click();
     }
 
@@ -124,9 +121,9 @@ public class EditUserModal {
     public boolean isModificationSuccessful() {
         try {
             // Esperar a que el modal se cierre o aparezca mensaje de éxito
-            Thread.sleep(2000);
+            waitUntilQuietly(d -> isAnyPresent(successMessage) || !isModalStillOpen(), SETTLE_TIMEOUT);
             
-            return isSuccessMessageVisible() || !isModalStillOpen();
+            return !isModalStillOpen() || isSuccessMessageVisible();
         } catch (Exception e) {
             return false;
         }
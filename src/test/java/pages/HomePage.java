@@ -1,11 +1,29 @@
 package pages;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import utils.LocatorRegistry;
+import utils.OrderingVerifier;
+import utils.SessionCache;
 
 public class HomePage extends BasePage {
 
@@ -25,11 +43,34 @@ public class HomePage extends BasePage {
     private By newTaskButtonFallback6 = By.cssSelector("button[class*='MuiButtonBase-root'][class*='MuiButton-contained']");
     private By newTaskButtonFallback7 = By.cssSelector("button[class*='css-9u3wwd']");
 
+    // Clave del botón "Nueva Tarea" en el registro de localizadores
+    private static final String NEW_TASK_BUTTON_KEY = "HomePage.newTaskButton";
+
+    // Clave aparte para detectar Home: solo selectores específicos, sin sumar victorias al botón
+    private static final String HOME_INDICATOR_KEY = "HomePage.homeIndicator";
+
     // Selector optimizado usando CSS para mejor rendimiento
     private By taskRows = By.cssSelector("table tbody tr");
 
+    // Modal que se abre al hacer click en "Nueva Tarea"
+    private By modalDialog = By.cssSelector("div[role='dialog']");
+
+    // Tiempo máximo para que aparezca el botón "Nueva Tarea" al llegar a Home
+    private static final Duration HOME_READY_TIMEOUT = Duration.ofSeconds(5);
+
+    // Petición con la que la SPA carga la lista de tareas (expresión regular sobre la URL)
+    private static final String TASKS_REQUEST = "/tasks(\\?|$)";
+
+    // Celdas con un timestamp ISO que a veces aparecen en la columna de títulos
+    private static final Pattern ISO_TIMESTAMP = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}");
+
     public HomePage(WebDriver driver) {
         super(driver);
+        // El ranking aprendido no puede subir un respaldo genérico sobre el texto exacto del botón
+        LocatorRegistry.declareTiers(NEW_TASK_BUTTON_KEY,
+            new By[] { newTaskButton, newTaskButtonFallback3, newTaskButtonFallback2, newTaskButtonFallback4 },
+            new By[] { newTaskButtonFallback1, newTaskButtonFallback7 },
+            new By[] { newTaskButtonFallback6, newTaskButtonFallback5 });
     }
 
     /**
@@ -39,13 +80,12 @@ public class HomePage extends BasePage {
      */
     public void navigateToHome() {
         try {
-            // Esperar un momento para que la página cargue después del login
-            Thread.sleep(2000);
+            // Esperar a que la página termine de cargar después del login
+            waitForPageSettled();
             
             // Verificar si ya estamos en una página con tareas visibles
-            if (driver.findElements(newTaskButton).size() > 0 || 
-                driver.findElements(newTaskButtonFallback1).size() > 0 ||
-                driver.findElements(newTaskButtonFallback2).size() > 0) {
+            // Los respaldos genéricos también encuentran "Ingresar" o los botones del perfil
+            if (findFirstVisible(HOME_INDICATOR_KEY, newTaskButton, newTaskButtonFallback1, newTaskButtonFallback2) != null) {
                 return; // Ya estamos en la página home
             }
             
@@ -54,6 +94,7 @@ public class HomePage extends BasePage {
                 By.xpath("//span[text()='Home'] | //span[text()='Inicio'] | //a[contains(text(), 'Home')] | //button[contains(text(), 'Home')] | //li[contains(text(), 'Home')] | //*[contains(text(), 'Home')]"));
             
             if (homeButton != null) {
+                long mark = networkMark();
                 try {
                     homeButton.click();
                 } catch (Exception e) {
@@ -61,21 +102,24 @@ public class HomePage extends BasePage {
                     ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", homeButton);
                 }
                 // Wait for navigation to complete
-                Thread.sleep(3000);
+                waitForTaskData(mark);
+                capturePerformance("navigateToHome");
             } else {
                 // If we can't find Home button, try direct URL navigation
                 try {
                     String currentUrl = driver.getCurrentUrl();
                     String baseUrl = currentUrl.substring(0, currentUrl.indexOf("/", 8)); // Get base URL
+                    long mark = networkMark();
                     driver.get(baseUrl + "/home");
-                    Thread.sleep(3000);
+                    waitForTaskData(mark);
+                    capturePerformance("navigateToHome");
                 } catch (Exception ex) {
                     // Try alternative home URLs
                     try {
                         String currentUrl = driver.getCurrentUrl();
                         String baseUrl = currentUrl.substring(0, currentUrl.indexOf("/", 8));
                         driver.get(baseUrl + "/");
-                        Thread.sleep(3000);
+                        waitForPageSettled();
                     } catch (Exception ex2) {
                         System.out.println("Warning: Could not navigate to Home page: " + ex2.getMessage());
                     }
@@ -86,6 +130,25 @@ public class HomePage extends BasePage {
         }
     }
 
+    /**
+     * Espera a que el backend entregue la lista de tareas (petición a /tasks) y la tabla
+     * se dibuje. Con DevTools termina justo cuando llega la respuesta.
+     */
+    private void waitForTaskData(long mark) {
+        if (waitForRequest(TASKS_REQUEST, mark, SETTLE_TIMEOUT)) {
+            waitForDomQuiet(QUIET_PERIOD, SETTLE_TIMEOUT);
+        } else {
+            waitForPageSettled();
+        }
+    }
+
+    /**
+     * Espera a que la tabla de tareas termine de cargar, sin pausas fijas
+     */
+    public boolean waitForTaskList() {
+        return waitForPageSettled();
+    }
+
     /**
      * Ensures we are on the Home page and ready for task operations
      * Requirements: Task creation and management functionality
@@ -95,44 +158,20 @@ public class HomePage extends BasePage {
         
         // Verify we can see task-related elements
         try {
-            Thread.sleep(2000); // Wait for page to fully load
+            By[] selectors = newTaskButtonCandidates();
             
-            // Check if we can find the Nueva Tarea button with any of our selectors
-            boolean buttonFound = false;
-            By[] selectors = {
-                newTaskButton, newTaskButtonFallback1, newTaskButtonFallback2, 
-                newTaskButtonFallback3, newTaskButtonFallback4, newTaskButtonFallback5,
-                newTaskButtonFallback6, newTaskButtonFallback7
-            };
-            
-            for (By selector : selectors) {
-                try {
-                    if (driver.findElements(selector).size() > 0) {
-                        buttonFound = true;
-                        break;
-                    }
-                } catch (Exception e) {
-                    // Continue trying other selectors
-                }
-            }
+            // Wait until the Nueva Tarea button shows up with any of our selectors
+            boolean buttonFound = waitForFirstVisible(NEW_TASK_BUTTON_KEY, HOME_READY_TIMEOUT, selectors) != null;
             
             // If we can't see the new task button, try navigation again
             if (!buttonFound) {
                 System.out.println("Nueva Tarea button not found, retrying navigation...");
                 navigateToHome();
-                Thread.sleep(3000);
                 
                 // Check again after retry
-                for (By selector : selectors) {
-                    try {
-                        if (driver.findElements(selector).size() > 0) {
-                            buttonFound = true;
-                            System.out.println("Nueva Tarea button found after retry");
-                            break;
-                        }
-                    } catch (Exception e) {
-                        // Continue trying other selectors
-                    }
+                buttonFound = waitForFirstVisible(NEW_TASK_BUTTON_KEY, HOME_READY_TIMEOUT, selectors) != null;
+                if (buttonFound) {
+                    System.out.println("Nueva Tarea button found after retry");
                 }
             }
             
@@ -145,51 +184,27 @@ public class HomePage extends BasePage {
     }
 
     public void clickNuevaTarea() {
-        WebElement button = null;
-        Exception lastException = null;
-        
-        // Array of selectors to try in order (most specific first)
-        By[] selectors = {
-            newTaskButton,                // Exact text match with MUI class
-            newTaskButtonFallback3,       // Exact text match
-            newTaskButtonFallback4,       // Contains text
-            newTaskButtonFallback2,       // MUI class with text
-            newTaskButtonFallback1,       // CSS class specific
-            newTaskButtonFallback7,       // CSS class fallback
-            newTaskButtonFallback6,       // Generic MUI button
-            newTaskButtonFallback5        // Contains "Nueva"
-        };
-        
-        // Try each selector until we find the button
-        for (int i = 0; i < selectors.length; i++) {
-            try {
-                button = driver.findElement(selectors[i]);
-                if (button != null && button.isDisplayed() && button.isEnabled()) {
-                    System.out.println("Found Nueva Tarea button using selector " + i);
-                    break; // Found a working button
-                }
-            } catch (Exception e) {
-                lastException = e;
-                button = null; // Reset for next iteration
-            }
-        }
+        // All selectors are probed in one script, in the order learned from previous runs
+        WebElement button = waitForFirstVisible(NEW_TASK_BUTTON_KEY, HOME_READY_TIMEOUT, newTaskButtonCandidates());
         
         if (button != null) {
             try {
                 // Scroll to button if needed
                 ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", button);
-                Thread.sleep(500);
+                wait.until(ExpectedConditions.elementToBeClickable(button));
                 
                 // Try regular click first
                 button.click();
                 System.out.println("Successfully clicked Nueva Tarea button");
-                Thread.sleep(1000); // Wait for modal to open
+                waitUntilQuietly(ExpectedConditions.visibilityOfElementLocated(modalDialog), SETTLE_TIMEOUT); // Wait for modal to open
+                capturePerformance("openNewTaskModal");
             } catch (Exception e) {
                 // If regular click fails, try JavaScript click
                 try {
                     ((org.openqa.selenium.JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
                     System.out.println("Successfully clicked Nueva Tarea button using JavaScript");
-                    Thread.sleep(1000); // Wait for modal to open
+                    waitUntilQuietly(ExpectedConditions.visibilityOfElementLocated(modalDialog), SETTLE_TIMEOUT); // Wait for modal to open
+                    capturePerformance("openNewTaskModal");
                 } catch (Exception jsException) {
                     throw new RuntimeException("Could not click Nueva Tarea button with any method. Last exception: " + jsException.getMessage(), jsException);
                 }
@@ -199,11 +214,29 @@ public class HomePage extends BasePage {
             System.out.println("Could not find Nueva Tarea button. Current URL: " + driver.getCurrentUrl());
             System.out.println("Page title: " + driver.getTitle());
             
-            throw new RuntimeException("Could not find Nueva Tarea button with any selector. Last exception: " + 
-                                     (lastException != null ? lastException.getMessage() : "No exception"));
+            throw new RuntimeException("Could not find Nueva Tarea button with any selector: " +
+                                     Arrays.toString(newTaskButtonCandidates()));
         }
     }
 
+    /**
+     * Candidatos para el botón "Nueva Tarea", del más específico al más genérico.
+     * LocatorRegistry los reordena según cuál ha funcionado en ejecuciones anteriores,
+     * sin sacar a ninguno de su nivel declarado en el constructor.
+     */
+    private By[] newTaskButtonCandidates() {
+        return new By[] {
+            newTaskButton,                // Exact text match with MUI class
+            newTaskButtonFallback3,       // Exact text match
+            newTaskButtonFallback4,       // Contains text
+            newTaskButtonFallback2,       // MUI class with text
+            newTaskButtonFallback1,       // CSS class specific
+            newTaskButtonFallback7,       // CSS class fallback
+            newTaskButtonFallback6,       // Generic MUI button
+            newTaskButtonFallback5        // Contains "Nueva"
+        };
+    }
+
     public boolean isTaskListNotEmpty() {
         return driver.findElements(taskRows).size() > 0;
     }
@@ -213,11 +246,6 @@ public class HomePage extends BasePage {
 
     private By priorityHeader = By.xpath("//th[contains(.,'Prioridad')]");
 
-    // Optimized column selectors using CSS for better performance
-    private By titleCells = By.cssSelector("table tbody tr td:first-child");
-
-    private By priorityCells = By.cssSelector("table tbody tr td:nth-child(4)");
-
     // clicks with fallback support
     public void clickTitleHeader() {
         WebElement element = findElementWithFallback(titleHeader, By.xpath("//th[contains(.,'Titulo')]"));
@@ -252,17 +280,11 @@ public class HomePage extends BasePage {
     }
 
     public List<Integer> getPriorities() {
-        List<WebElement> cells;
-        try {
-            cells = driver.findElements(priorityCells);
-        } catch (Exception e) {
-            // Fallback to XPath
-            cells = driver.findElements(By.xpath("//table/tbody/tr/td[4]"));
-        }
-        
-        List<Integer> priorities = new ArrayList<>();
-        for (WebElement c : cells) {
-            priorities.add(Integer.parseInt(c.getText().trim()));
+        // Una sola lectura de la tabla en vez de un getText() por celda
+        int[] values = TaskTableSnapshot.capture(driver).getPriorityValues();
+        List<Integer> priorities = new ArrayList<>(values.length);
+        for (int value : values) {
+            priorities.add(value);
         }
         return priorities;
     }
@@ -272,7 +294,19 @@ public class HomePage extends BasePage {
     // Pagination selectors
     private By nextPageButton = By.cssSelector("button[aria-label='Go to next page']:not([disabled])");
     private By previousPageButton = By.cssSelector("button[aria-label='Go to previous page']:not([disabled])");
-    private By paginationInfo = By.cssSelector(".MuiTablePagination-displayedRows");
+    private By firstPageButton = By.cssSelector("button[aria-label='Go to first page']:not([disabled])");
+
+    // Pie de paginación ("1–5 of 23") y selector de filas por página, leídos en una consulta
+    private static final String PAGINATION_SCRIPT =
+            "var shown = document.querySelector('.MuiTablePagination-displayedRows');"
+            + "var select = document.querySelector('.MuiTablePagination-select');"
+            + "return { displayed: shown ? shown.textContent : '', perPage: select ? select.textContent : '' };";
+
+    // Firma de la página visible: cambia cuando la tabla muestra otra página
+    private static final String PAGE_SIGNATURE_SCRIPT =
+            "var shown = document.querySelector('.MuiTablePagination-displayedRows');"
+            + "var row = document.querySelector('table tbody tr');"
+            + "return (shown ? shown.textContent : '') + '|' + (row ? row.textContent : '');";
     
     // Logout selectors
     private By logoutButton = By.xpath("//button[contains(., 'Logout') or contains(., 'Cerrar') or contains(., 'Salir')] | //span[contains(., 'Logout') or contains(., 'Cerrar') or contains(., 'Salir')]");
@@ -281,10 +315,15 @@ public class HomePage extends BasePage {
 
     /**
      * Gets the current count of tasks in ALL pages (handles pagination)
+     * Uses the pagination footer total when available, without visiting every page
      * Requirements: 5.2, 5.3
      */
     public int getTaskCount() {
-        return getAllTaskTitles().size();
+        PaginationInfo info = getPaginationInfo();
+        if (info.getTotalRows() >= 0) {
+            return info.getTotalRows();
+        }
+        return (int) streamTaskTitles().count();
     }
 
     /**
@@ -292,28 +331,10 @@ public class HomePage extends BasePage {
      * Requirements: 5.1, 5.2
      */
     public List<String> getAllTaskTitles() {
-        List<String> allTitles = new ArrayList<>();
+        List<String> allTitles;
         
         try {
-            // First, go to the first page
-            goToFirstPage();
-            
-            do {
-                // Get titles from current page
-                List<String> currentPageTitles = getTitlesFromCurrentPage();
-                allTitles.addAll(currentPageTitles);
-                
-                System.out.println("Debug - Page titles: " + currentPageTitles);
-                
-                // Try to go to next page
-                if (!goToNextPage()) {
-                    break; // No more pages
-                }
-                
-                Thread.sleep(1000); // Wait for page to load
-                
-            } while (true);
-            
+            allTitles = streamTaskTitles().collect(Collectors.toList());
         } catch (Exception e) {
             System.out.println("Error reading paginated titles: " + e.getMessage());
             // Fallback to current page only
@@ -324,16 +345,124 @@ public class HomePage extends BasePage {
         return allTitles;
     }
 
+    /**
+     * Recorre los títulos de todas las páginas de forma perezosa: vuelve a la primera
+     * página y solo avanza a la siguiente cuando el consumidor agota la actual, por lo que
+     * operaciones como anyMatch o findFirst se detienen en cuanto encuentran el resultado.
+     * Requerimientos: 5.1, 5.2
+     */
+    public Stream<String> streamTaskTitles() {
+        goToFirstPage();
+        Iterator<String> titles = new PagedTitleIterator();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(titles, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Verifica el orden por título en todas las páginas, de a una página a la vez:
+     * solo se guarda el último título visto y se deja de paginar en la primera violación.
+     * Requerimientos: 5.1, 5.2
+     */
+    public OrderingVerifier.Result verifyTitleOrderAcrossPages(boolean descending) {
+        return OrderingVerifier.spanishText(descending).verify(streamTaskTitles().iterator());
+    }
+
+    /**
+     * Verifica el orden por prioridad en todas las páginas, de a una página a la vez;
+     * el índice de la violación cuenta desde la primera fila de la primera página
+     */
+    public OrderingVerifier.Result verifyPriorityOrderAcrossPages(boolean descending) {
+        OrderingVerifier<Integer>.Incremental session = OrderingVerifier.<Integer>natural(descending).incremental();
+        forEachTaskPage(page -> {
+            for (int priority : page.getPriorityValues()) {
+                session.accept(priority);
+            }
+            return session.getResult().isOrdered();
+        });
+        return session.getResult();
+    }
+
+    /**
+     * Verifica el orden cronológico por fecha de vencimiento en todas las páginas. Una
+     * fecha que no se reconoce hace fallar la verificación, igual que en TasksPage.
+     */
+    public OrderingVerifier.Result verifyEndDateOrderAcrossPages(boolean descending) {
+        OrderingVerifier<String>.Incremental session =
+                OrderingVerifier.<String>by(TaskTableSnapshot::parseDateMillis, descending).incremental();
+        OrderingVerifier.Result[] unreadable = new OrderingVerifier.Result[1];
+        forEachTaskPage(page -> {
+            List<String> texts = page.getEndDates();
+            long[] dates = page.getEndDateValues();
+            for (int i = 0; i < dates.length; i++) {
+                if (dates[i] == TaskTableSnapshot.NO_DATE) {
+                    unreadable[0] = OrderingVerifier.Result.unreadable(session.getCount(), texts.get(i));
+                    return false;
+                }
+                session.accept(texts.get(i));
+            }
+            return session.getResult().isOrdered();
+        });
+        return unreadable[0] != null ? unreadable[0] : session.getResult();
+    }
+
+    /**
+     * Recorre la tabla desde la primera página entregando una captura de cada una; se
+     * detiene cuando el consumidor retorna false o no quedan páginas
+     */
+    private void forEachTaskPage(Predicate<TaskTableSnapshot> pageConsumer) {
+        goToFirstPage();
+        boolean more = true;
+        while (more && pageConsumer.test(TaskTableSnapshot.capture(driver))) {
+            more = goToNextPage();
+        }
+    }
+
+    /**
+     * Total de filas según el pie de paginación ("1–5 of 23"), o -1 si no se muestra
+     */
+    public int getTotalTaskRows() {
+        return getPaginationInfo().getTotalRows();
+    }
+
+    /**
+     * Total de páginas de la tabla, o -1 si no se puede calcular desde la paginación
+     */
+    public int getTotalTaskPages() {
+        return getPaginationInfo().getTotalPages();
+    }
+
+    /**
+     * Lee el pie de paginación y el selector de filas por página en una sola consulta
+     */
+    public PaginationInfo getPaginationInfo() {
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(PAGINATION_SCRIPT);
+            if (result instanceof Map) {
+                Map<?, ?> values = (Map<?, ?>) result;
+                return PaginationInfo.parse(
+                        String.valueOf(values.get("displayed")), String.valueOf(values.get("perPage")));
+            }
+        } catch (Exception e) {
+            System.out.println("Warning: Could not read pagination info: " + e.getMessage());
+        }
+        return PaginationInfo.parse("", "");
+    }
+
     /**
      * Goes to the first page of the table
      */
     private void goToFirstPage() {
         try {
-            // Keep clicking previous until disabled
-            while (driver.findElements(previousPageButton).size() > 0) {
-                WebElement prevButton = driver.findElement(previousPageButton);
-                prevButton.click();
-                Thread.sleep(500);
+            // MUI muestra "Go to first page" solo con showFirstButton; si no está, se retrocede página a página
+            List<WebElement> firstButtons = driver.findElements(firstPageButton);
+            if (!firstButtons.isEmpty()) {
+                clickAndWaitForPageChange(firstButtons.get(0));
+                return;
+            }
+            List<WebElement> prevButtons = driver.findElements(previousPageButton);
+            while (!prevButtons.isEmpty()) {
+                clickAndWaitForPageChange(prevButtons.get(0));
+                prevButtons = driver.findElements(previousPageButton);
             }
         } catch (Exception e) {
             // Already on first page or no pagination
@@ -348,8 +477,7 @@ public class HomePage extends BasePage {
         try {
             List<WebElement> nextButtons = driver.findElements(nextPageButton);
             if (nextButtons.size() > 0) {
-                nextButtons.get(0).click();
-                return true;
+                return clickAndWaitForPageChange(nextButtons.get(0));
             }
         } catch (Exception e) {
             System.out.println("Could not go to next page: " + e.getMessage());
@@ -357,64 +485,62 @@ public class HomePage extends BasePage {
         return false;
     }
 
+    /**
+     * Hace click en un botón de paginación y espera a que cambie el contenido de la tabla
+     * (texto del pie de paginación o primera fila) y terminen las peticiones pendientes,
+     * en lugar de una pausa fija
+     * @return false si la tabla no cambió dentro de SETTLE_TIMEOUT
+     */
+    private boolean clickAndWaitForPageChange(WebElement button) {
+        String before = readPageSignature();
+        networkMark();
+        button.click();
+        boolean changed = waitUntilQuietly(d -> !readPageSignature().equals(before), SETTLE_TIMEOUT);
+        if (!changed) {
+            System.out.println("Warning: Task table did not change after pagination click");
+            return false;
+        }
+        waitForPendingRequests(SETTLE_TIMEOUT);
+        return true;
+    }
+
+    private String readPageSignature() {
+        Object signature = ((JavascriptExecutor) driver).executeScript(PAGE_SIGNATURE_SCRIPT);
+        return String.valueOf(signature);
+    }
+
     /**
      * Gets titles from the current page only
      */
     private List<String> getTitlesFromCurrentPage() {
-        List<WebElement> cells = new ArrayList<>();
-        
+        List<String> titles = new ArrayList<>();
         try {
-            // Based on debug: there are 20 td elements, and we found titles in XPath '//td[1]'
-            // Try to get the first column cells (titles) using different approaches
-            
-            // Approach 1: Get all first td elements (position 1, 5, 9, 13, 17 for 5 rows with 4 columns each)
-            List<WebElement> allTds = driver.findElements(By.xpath("//td"));
-            System.out.println("Debug - Total td elements found: " + allTds.size());
-            
-            // If we have 20 tds and 4 columns per row, we have 5 rows
-            // Title cells would be at positions 0, 4, 8, 12, 16 (every 4th element starting from 0)
-            if (allTds.size() >= 4) {
-                for (int i = 0; i < allTds.size(); i += 4) {
-                    if (i < allTds.size()) {
-                        cells.add(allTds.get(i));
-                    }
+            for (String title : TaskTableSnapshot.capture(driver).getTitleValues()) {
+                // Skip date-like strings (ISO timestamps only: a title such as "2025-01-06" is kept)
+                if (!title.isEmpty() && !ISO_TIMESTAMP.matcher(title).matches()) {
+                    titles.add(title);
                 }
             }
-            
-            // If that doesn't work, try the XPath that showed results in debug
-            if (cells.isEmpty()) {
-                cells = driver.findElements(By.xpath("//td[1]"));
-            }
-            
-            // If still empty, try different column positions
-            if (cells.isEmpty()) {
-                cells = driver.findElements(By.xpath("//td[2]"));
-            }
-            
         } catch (Exception e) {
             System.out.println("Error finding title cells: " + e.getMessage());
         }
         
-        List<String> titles = new ArrayList<>();
-        for (WebElement c : cells) {
-            String title = c.getText().trim();
-            if (!title.isEmpty() && !title.matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}")) { // Skip date-like strings
-                titles.add(title);
-                System.out.println("Debug - Found title: '" + title + "'");
-            }
-        }
-        
-        System.out.println("Debug - Extracted " + titles.size() + " titles from " + cells.size() + " cells");
+        System.out.println("Debug - Extracted " + titles.size() + " titles from current page");
         return titles;
     }
 
     /**
      * Validates if a task with specific title exists in the task list (searches all pages)
+     * Stops paging as soon as the title is found
      * Requirements: 5.1, 5.2
      */
     public boolean taskExistsWithTitle(String title) {
-        List<String> allTitles = getAllTaskTitles();
-        return allTitles.contains(title);
+        try {
+            return streamTaskTitles().anyMatch(title::equals);
+        } catch (Exception e) {
+            System.out.println("Error reading paginated titles: " + e.getMessage());
+            return getTitlesFromCurrentPage().contains(title);
+        }
     }
 
     /**
@@ -423,17 +549,12 @@ public class HomePage extends BasePage {
      */
     public boolean validateLatestTaskData(String expectedTitle) {
         try {
-            // Wait a moment for the task to appear
-            Thread.sleep(1000);
-            
-            List<String> allTitles = getAllTaskTitles();
-            if (allTitles.isEmpty()) {
-                return false;
-            }
+            // Wait for the task list to settle so the new task can appear
+            waitForPageSettled();
             
             // Check if the expected title is in the list (could be anywhere depending on sorting)
-            return allTitles.contains(expectedTitle) || 
-                   allTitles.stream().anyMatch(title -> title.contains(expectedTitle.substring(0, Math.min(10, expectedTitle.length()))));
+            String prefix = expectedTitle.substring(0, Math.min(10, expectedTitle.length()));
+            return streamTaskTitles().anyMatch(title -> title.equals(expectedTitle) || title.contains(prefix));
         } catch (Exception e) {
             return false;
         }
@@ -446,7 +567,7 @@ public class HomePage extends BasePage {
     public boolean isTaskCreationSuccessful(int previousCount, String taskTitle) {
         try {
             // Wait for the task list to update
-            Thread.sleep(2000);
+            waitForPageSettled();
             
             // Check if task count increased
             int currentCount = getTaskCount();
@@ -469,6 +590,9 @@ public class HomePage extends BasePage {
      * Requirements: TC012
      */
     public void logout() {
+        // La sesión guardada deja de ser válida después de cerrar sesión
+        SessionCache.invalidateAll();
+
         try {
             // First try to find a direct logout button
             WebElement logoutBtn = findElementWithFallback(logoutButton, 
@@ -484,7 +608,7 @@ public class HomePage extends BasePage {
             
             if (userMenu != null) {
                 userMenu.click();
-                Thread.sleep(1000); // Wait for menu to open
+                waitUntilQuietly(d -> isAnyPresent(logoutButton), Duration.ofSeconds(3)); // Wait for menu to open
                 
                 // Now look for logout option in the opened menu
                 WebElement logoutOption = findElementWithFallback(logoutButton,
@@ -514,4 +638,36 @@ public class HomePage extends BasePage {
             }
         }
     }
+
+    /**
+     * Iterador de títulos que carga una página a la vez y avanza a la siguiente
+     * solo cuando se agota la actual
+     */
+    private class PagedTitleIterator implements Iterator<String> {
+        private Iterator<String> currentPage;
+        private boolean exhausted;
+
+        @Override
+        public boolean hasNext() {
+            while (currentPage == null || !currentPage.hasNext()) {
+                if (exhausted) {
+                    return false;
+                }
+                if (currentPage != null && !goToNextPage()) {
+                    exhausted = true;
+                    return false;
+                }
+                currentPage = getTitlesFromCurrentPage().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentPage.next();
+        }
+    }
 }
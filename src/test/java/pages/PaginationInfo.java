@@ -0,0 +1,88 @@
+package pages;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Estado del pie de paginación de la tabla de tareas (MUI TablePagination).
+ *
+ * Se interpreta el texto "1–5 of 23" (o "1-5 de 23") y el selector de filas por
+ * página. Si el pie no existe o el total es desconocido ("of more than 10"),
+ * los totales se informan como -1.
+ */
+public class PaginationInfo {
+
+    private static final Pattern DISPLAYED_ROWS =
+            Pattern.compile("(\\d+)\\s*[–—-]\\s*(\\d+)\\s*(?:of|de)\\s*(\\d+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private final int firstRow;
+    private final int lastRow;
+    private final int totalRows;
+    private final int rowsPerPage;
+
+    PaginationInfo(int firstRow, int lastRow, int totalRows, int rowsPerPage) {
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+        this.totalRows = totalRows;
+        this.rowsPerPage = rowsPerPage;
+    }
+
+    static PaginationInfo parse(String displayedRows, String perPageText) {
+        int first = -1, last = -1, total = -1, perPage = -1;
+
+        Matcher displayed = DISPLAYED_ROWS.matcher(displayedRows == null ? "" : displayedRows);
+        if (displayed.find()) {
+            first = Integer.parseInt(displayed.group(1));
+            last = Integer.parseInt(displayed.group(2));
+            total = Integer.parseInt(displayed.group(3));
+        }
+
+        Matcher perPageNumber = NUMBER.matcher(perPageText == null ? "" : perPageText);
+        if (perPageNumber.find()) {
+            perPage = Integer.parseInt(perPageNumber.group());
+        } else if (last >= first && first > 0 && last < total) {
+            // Sin selector visible: una página que no es la última está completa
+            perPage = last - first + 1;
+        }
+        return new PaginationInfo(first, last, total, perPage);
+    }
+
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    public int getLastRow() {
+        return lastRow;
+    }
+
+    public int getTotalRows() {
+        return totalRows;
+    }
+
+    public int getRowsPerPage() {
+        return rowsPerPage;
+    }
+
+    /**
+     * Número de páginas según el total y las filas por página, o -1 si no se conoce
+     */
+    public int getTotalPages() {
+        if (totalRows == 0) {
+            return 1;
+        }
+        if (totalRows < 0) {
+            return -1;
+        }
+        if (rowsPerPage <= 0) {
+            // Todo cabe en la página actual si empieza en la primera fila y termina en la última
+            return firstRow == 1 && lastRow == totalRows ? 1 : -1;
+        }
+        return (totalRows + rowsPerPage - 1) / rowsPerPage;
+    }
+
+    @Override
+    public String toString() {
+        return firstRow + "–" + lastRow + " of " + totalRows + " (" + rowsPerPage + " per page)";
+    }
+}
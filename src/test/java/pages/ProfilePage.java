@@ -5,14 +5,10 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
-public class ProfilePage {
-
-    private WebDriver driver;
-    private WebDriverWait wait;
+public class ProfilePage extends BasePage {
 
     // Titulo del perfil (nombre del usuario)
     private By nameText = By.xpath("//h1 | //h4");
@@ -21,13 +17,15 @@ public class ProfilePage {
     private By profileMenu =
             By.xpath("//span[normalize-space()='Perfil']");
 
+    // Modal de edición o cambio de contraseña
+    private By modalDialog = By.cssSelector("div[role='dialog']");
+
     // Boton EDITAR DATOS USUARIO
     private By editUserButton =
             By.xpath("//button[normalize-space()='Editar Datos Usuario']");
 
     public ProfilePage(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        super(driver, Duration.ofSeconds(15));
     }
 
     public void goToProfile() {
@@ -35,6 +33,8 @@ public class ProfilePage {
                 ExpectedConditions.presenceOfElementLocated(profileMenu)
         );
         perfil.click();
+        waitUntilQuietly(ExpectedConditions.visibilityOfElementLocated(nameText), SETTLE_TIMEOUT);
+        capturePerformance("goToProfile");
     }
 
     public boolean isProfileVisible() {
@@ -55,6 +55,8 @@ public class ProfilePage {
         ((JavascriptExecutor) driver).executeScript(
                 "arguments[0].click();", button
         );
+        waitUntilQuietly(ExpectedConditions.visibilityOfElementLocated(modalDialog), SETTLE_TIMEOUT);
+        capturePerformance("openEditUserModal");
     }
 
     private By changePasswordButton =
@@ -67,6 +69,8 @@ public class ProfilePage {
 
 public void clickChangePassword() {
     wait.until(ExpectedConditions.elementToBeClickable(changePasswordButton)).click();
+    waitUntilQuietly(ExpectedConditions.visibilityOfElementLocated(modalDialog), SETTLE_TIMEOUT);
+    capturePerformance("openChangePasswordModal");
 }
 
     // ---------- Enhanced Profile Validation Methods ----------
@@ -78,7 +82,7 @@ public void clickChangePassword() {
     public boolean isUserDataUpdated() {
         try {
             // Wait for profile to refresh after modification
-            Thread.sleep(2000);
+            waitForPageSettled();
             
             // Check if profile content is visible and updated
             return isProfileVisible() && !driver.findElements(profileContent).isEmpty();
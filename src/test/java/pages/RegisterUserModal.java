@@ -3,19 +3,14 @@ package pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.time.Duration;
 
-public class RegisterUserModal {
-
-    private WebDriver driver;
-    private WebDriverWait wait;
+public class RegisterUserModal extends BasePage {
 
     public RegisterUserModal(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+        super(driver, Duration.ofSeconds(15));
     }
 
     // Inputs optimizados usando selectores CSS y tipos de input para mejor rendimiento
@@ -107,8 +102,12 @@ public class RegisterUserModal {
      */
     public boolean isRegistrationSuccessful() {
         try {
-            // Esperar un momento para que se procese el registro
-            Thread.sleep(2000);
+            String urlAtStart = driver.getCurrentUrl();
+
+            // Esperar a que se procese el registro: mensaje de éxito o error, cierre del modal o redirección
+            waitUntilQuietly(d -> isAnyPresent(successMessage, errorMessage)
+                    || d.findElements(modalDialog).isEmpty()
+                    || !d.getCurrentUrl().equals(urlAtStart), SETTLE_TIMEOUT);
             
             // Verificar si se muestra mensaje de éxito usando selector optimizado
             try {
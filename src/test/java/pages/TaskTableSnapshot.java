@@ -0,0 +1,273 @@
+package pages;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Instantánea de la tabla de tareas leída con un solo executeScript.
+ *
+ * En lugar de un findElements más un getText() por celda (un viaje HTTP al driver
+ * por cada una), se leen todas las filas y columnas en una consulta y los getters
+ * y validaciones trabajan sobre la copia en memoria.
+ *
+ * Las columnas tipadas se decodifican la primera vez que se piden y quedan en
+ * arreglos primitivos: prioridades como int[], fechas de creación y vencimiento
+ * como long[] en epoch millis (así se comparan cronológicamente y no como texto)
+ * y títulos internados. Las fechas aceptan varios formatos con formateadores
+ * construidos una sola vez.
+ */
+public class TaskTableSnapshot {
+
+    // Columnas de la tabla de tareas (posición dentro de cada fila)
+    public static final int TITLE = 0;
+    public static final int CREATED_DATE = 1;
+    public static final int END_DATE = 2;
+    public static final int PRIORITY = 3;
+
+    /**
+     * Valor de una fecha que no se pudo interpretar; queda antes que cualquier fecha válida
+     */
+    public static final long NO_DATE = Long.MIN_VALUE;
+
+    // Formatos de fecha que puede mostrar la tabla, del más común al menos común
+    private static final DateTimeFormatter[] DATE_FORMATS = {
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm"),
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]"),
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm[:ss]"),
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("dd-MM-yyyy")
+    };
+
+    // Último formato que funcionó: una tabla usa el mismo formato en todas las filas
+    private static volatile int lastDateFormat;
+
+    private static final String CAPTURE_SCRIPT =
+            "var headers = [], rows = [];"
+            + "document.querySelectorAll('table > thead th').forEach(function (th) {"
+            + "  headers.push((th.innerText || th.textContent || '').trim());"
+            + "});"
+            + "document.querySelectorAll('table > tbody > tr').forEach(function (tr) {"
+            + "  var row = [];"
+            + "  tr.querySelectorAll(':scope > td').forEach(function (td) {"
+            + "    row.push((td.innerText || td.textContent || '').trim());"
+            + "  });"
+            + "  rows.push(row);"
+            + "});"
+            + "return { headers: headers, rows: rows };";
+
+    private final List<String> headers;
+    private final List<List<String>> rows;
+
+    // Columnas decodificadas en el primer uso
+    private String[] titles;
+    private int[] priorities;
+    private long[] createdDates;
+    private long[] endDates;
+
+    TaskTableSnapshot(List<String> headers, List<List<String>> rows) {
+        this.headers = headers;
+        this.rows = rows;
+    }
+
+    /**
+     * Lee la tabla completa visible en la página actual
+     */
+    public static TaskTableSnapshot capture(WebDriver driver) {
+        Object result = ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        if (!(result instanceof Map)) {
+            return new TaskTableSnapshot(Collections.emptyList(), Collections.emptyList());
+        }
+        Map<?, ?> table = (Map<?, ?>) result;
+
+        List<String> headers = toStringList(table.get("headers"));
+        List<List<String>> rows = new ArrayList<>();
+        Object rawRows = table.get("rows");
+        if (rawRows instanceof List) {
+            for (Object row : (List<?>) rawRows) {
+                rows.add(toStringList(row));
+            }
+        }
+        return new TaskTableSnapshot(headers, rows);
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public List<List<String>> getRows() {
+        return rows;
+    }
+
+    /**
+     * Valores de una columna; las filas sin esa celda se omiten, igual que
+     * un XPath //tr/td[n]
+     */
+    public List<String> getColumn(int column) {
+        List<String> values = new ArrayList<>(rows.size());
+        for (List<String> row : rows) {
+            if (column < row.size()) {
+                values.add(row.get(column));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Indica si todas las celdas existentes de la columna tienen texto
+     */
+    public boolean allNonEmpty(int column) {
+        for (List<String> row : rows) {
+            if (column < row.size() && row.get(column).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<String> getTitles() {
+        return getColumn(TITLE);
+    }
+
+    public List<String> getCreatedDates() {
+        return getColumn(CREATED_DATE);
+    }
+
+    public List<String> getEndDates() {
+        return getColumn(END_DATE);
+    }
+
+    public List<String> getPriorityTexts() {
+        return getColumn(PRIORITY);
+    }
+
+    /**
+     * Títulos internados: los títulos repetidos entre páginas o capturas comparten instancia
+     */
+    public String[] getTitleValues() {
+        if (titles == null) {
+            List<String> column = getTitles();
+            titles = new String[column.size()];
+            for (int i = 0; i < titles.length; i++) {
+                titles[i] = column.get(i).intern();
+            }
+        }
+        return titles;
+    }
+
+    /**
+     * Prioridades como enteros; una celda que no es un número lanza NumberFormatException
+     */
+    public int[] getPriorityValues() {
+        if (priorities == null) {
+            List<String> column = getPriorityTexts();
+            int[] values = new int[column.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Integer.parseInt(column.get(i).trim());
+            }
+            priorities = values;
+        }
+        return priorities;
+    }
+
+    /**
+     * Fechas de creación en epoch millis (UTC), o {@link #NO_DATE} si la celda no es una fecha
+     */
+    public long[] getCreatedDateValues() {
+        if (createdDates == null) {
+            createdDates = parseDates(getCreatedDates());
+        }
+        return createdDates;
+    }
+
+    /**
+     * Fechas de vencimiento en epoch millis (UTC), o {@link #NO_DATE} si la celda no es una fecha
+     */
+    public long[] getEndDateValues() {
+        if (endDates == null) {
+            endDates = parseDates(getEndDates());
+        }
+        return endDates;
+    }
+
+    /**
+     * Convierte una fecha de la tabla a epoch millis; las fechas sin zona se toman
+     * en UTC, lo que basta para compararlas entre sí
+     */
+    public static long parseDateMillis(String text) {
+        if (!looksLikeDate(text)) {
+            return NO_DATE;
+        }
+        String value = text.trim();
+        int first = lastDateFormat;
+        for (int attempt = 0; attempt < DATE_FORMATS.length; attempt++) {
+            int index = (first + attempt) % DATE_FORMATS.length;
+            try {
+                TemporalAccessor parsed = DATE_FORMATS[index].parseBest(value,
+                        OffsetDateTime::from, LocalDateTime::from, LocalDate::from);
+                lastDateFormat = index;
+                if (parsed instanceof OffsetDateTime) {
+                    return ((OffsetDateTime) parsed).toInstant().toEpochMilli();
+                }
+                if (parsed instanceof LocalDateTime) {
+                    return ((LocalDateTime) parsed).toInstant(ZoneOffset.UTC).toEpochMilli();
+                }
+                return ((LocalDate) parsed).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+            } catch (DateTimeParseException e) {
+                // Probar el siguiente formato
+            }
+        }
+        return NO_DATE;
+    }
+
+    /**
+     * Descarte rápido sin excepciones: todos los formatos empiezan con dos dígitos
+     * y tienen al menos 10 caracteres
+     */
+    public static boolean looksLikeDate(String text) {
+        if (text == null) {
+            return false;
+        }
+        String value = text.trim();
+        return value.length() >= 10 && value.length() <= 35
+                && Character.isDigit(value.charAt(0)) && Character.isDigit(value.charAt(1));
+    }
+
+    private static long[] parseDates(List<String> column) {
+        long[] values = new long[column.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = parseDateMillis(column.get(i));
+        }
+        return values;
+    }
+
+    private static List<String> toStringList(Object value) {
+        if (!(value instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (Object item : (List<?>) value) {
+            result.add(item == null ? "" : String.valueOf(item));
+        }
+        return result;
+    }
+}
@@ -2,12 +2,12 @@ package pages;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import utils.OrderingVerifier;
+
 public class TasksPage extends BasePage {
 
     // Headers
@@ -15,14 +15,8 @@ public class TasksPage extends BasePage {
     private By priorityHeader = By.xpath("//th[contains(.,'Prioridad')]");
     private By endDateHeader = By.xpath("//th[contains(.,'Fecha Vencimiento')]");
 
-    // Table rows
-    private By tableRows = By.xpath("//table/tbody/tr");
-
-    // Columns
-    private By titleCells = By.xpath("//table/tbody/tr/td[1]");
-    private By createdDateCells = By.xpath("//table/tbody/tr/td[2]");
-    private By endDateCells = By.xpath("//table/tbody/tr/td[3]");
-    private By priorityCells = By.xpath("//table/tbody/tr/td[4]");
+    // Tabla leída en una sola consulta; se descarta al reordenar
+    private TaskTableSnapshot snapshot;
 
     public TasksPage(WebDriver driver) {
         super(driver);
@@ -30,15 +24,15 @@ public class TasksPage extends BasePage {
 
     // ---------- Clicks ----------
     public void clickTitleHeader() {
-        click(titleHeader);
+        clickHeader(titleHeader);
     }
 
     public void clickPriorityHeader() {
-        click(priorityHeader);
+        clickHeader(priorityHeader);
     }
 
     public void clickEndDateHeader() {
-        click(endDateHeader);
+        clickHeader(endDateHeader);
     }
 
     // ---------- Sorting Methods ----------
@@ -50,71 +44,101 @@ public class TasksPage extends BasePage {
         clickEndDateHeader();
     }
 
+    /**
+     * Descarta la instantánea actual; la próxima lectura vuelve a consultar la tabla
+     */
+    public void refresh() {
+        snapshot = null;
+    }
+
+    /**
+     * Instantánea de la tabla, capturada en la primera lectura
+     */
+    public TaskTableSnapshot getSnapshot() {
+        if (snapshot == null) {
+            snapshot = TaskTableSnapshot.capture(driver);
+        }
+        return snapshot;
+    }
+
+    private void clickHeader(By header) {
+        click(header);
+        // Esperar a que la tabla se vuelva a renderizar antes de la próxima lectura
+        waitForReactIdle(QUIET_PERIOD, SETTLE_TIMEOUT);
+        refresh();
+    }
+
     // ---------- Get data ----------
     public List<String> getTitles() {
-        List<String> titles = new ArrayList<>();
-        for (WebElement el : driver.findElements(titleCells)) {
-            titles.add(el.getText().trim());
-        }
-        return titles;
+        return getSnapshot().getTitles();
     }
 
     public List<Integer> getPriorities() {
-        List<Integer> values = new ArrayList<>();
-        for (WebElement el : driver.findElements(priorityCells)) {
-            values.add(Integer.parseInt(el.getText().trim()));
+        int[] priorities = getSnapshot().getPriorityValues();
+        List<Integer> values = new ArrayList<>(priorities.length);
+        for (int priority : priorities) {
+            values.add(priority);
         }
         return values;
     }
 
     public List<String> getEndDates() {
-        List<String> dates = new ArrayList<>();
-        for (WebElement el : driver.findElements(endDateCells)) {
-            dates.add(el.getText().trim());
-        }
-        return dates;
+        return getSnapshot().getEndDates();
     }
 
     // ---------- Validations ----------
     public boolean hasTasks() {
-        return driver.findElements(tableRows).size() > 0;
+        return getSnapshot().getRowCount() > 0;
     }
 
     public boolean allTasksHaveTitle() {
-        return driver.findElements(titleCells)
-                .stream()
-                .allMatch(e -> !e.getText().trim().isEmpty());
+        return getSnapshot().allNonEmpty(TaskTableSnapshot.TITLE);
     }
 
     public boolean allTasksHaveCreationDate() {
-        return driver.findElements(createdDateCells)
-                .stream()
-                .allMatch(e -> !e.getText().trim().isEmpty());
+        return getSnapshot().allNonEmpty(TaskTableSnapshot.CREATED_DATE);
     }
 
     public boolean allTasksHaveEndDate() {
-        return driver.findElements(endDateCells)
-                .stream()
-                .allMatch(e -> !e.getText().trim().isEmpty());
+        return getSnapshot().allNonEmpty(TaskTableSnapshot.END_DATE);
     }
 
     public boolean allTasksHavePriority() {
-        return driver.findElements(priorityCells)
-                .stream()
-                .allMatch(e -> !e.getText().trim().isEmpty());
+        return getSnapshot().allNonEmpty(TaskTableSnapshot.PRIORITY);
     }
 
     public boolean isTasksSortedByTitle() {
-        List<String> titles = getTitles();
-        List<String> sortedTitles = new ArrayList<>(titles);
-        Collections.sort(sortedTitles, String.CASE_INSENSITIVE_ORDER);
-        return titles.equals(sortedTitles);
+        return verifyTitleOrder(false).isOrdered();
     }
 
     public boolean isTasksSortedByDate() {
-        List<String> dates = getEndDates();
-        List<String> sortedDates = new ArrayList<>(dates);
-        Collections.sort(sortedDates);
-        return dates.equals(sortedDates);
+        return verifyEndDateOrder(false).isOrdered();
+    }
+
+    /**
+     * Verifica en una pasada el orden por título con la colación del español
+     */
+    public OrderingVerifier.Result verifyTitleOrder(boolean descending) {
+        return OrderingVerifier.spanishText(descending).verify(getTitles());
+    }
+
+    /**
+     * Verifica el orden cronológico por fecha de vencimiento (epoch millis, no texto).
+     * Una celda que no se reconoce como fecha hace fallar la verificación, para que un
+     * formato desconocido no deje todas las fechas iguales y la lista "ordenada".
+     */
+    public OrderingVerifier.Result verifyEndDateOrder(boolean descending) {
+        TaskTableSnapshot table = getSnapshot();
+        long[] endDates = table.getEndDateValues();
+        for (int i = 0; i < endDates.length; i++) {
+            if (endDates[i] == TaskTableSnapshot.NO_DATE) {
+                return OrderingVerifier.Result.unreadable(i, table.getEndDates().get(i));
+            }
+        }
+        return OrderingVerifier.verifyLongs(endDates, table.getEndDates(), descending);
+    }
+
+    public OrderingVerifier.Result verifyPriorityOrder(boolean descending) {
+        return OrderingVerifier.verifyInts(getSnapshot().getPriorityValues(), descending);
     }
 }
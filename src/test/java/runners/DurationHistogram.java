@@ -0,0 +1,169 @@
+package runners;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de duraciones con buckets logarítmicos, en microsegundos.
+ *
+ * Cada potencia de dos se divide en 4 sub-buckets, así el error de un percentil
+ * queda acotado a ~12% sin importar si el paso dura 2 ms o 2 minutos, y el
+ * histograma completo ocupa 256 contadores. Registrar un valor no bloquea: los
+ * eventos de Cucumber llegan desde varios hilos cuando los escenarios corren en
+ * paralelo. Se puede serializar para acumular ejecuciones anteriores.
+ */
+public class DurationHistogram {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void record(Duration duration) {
+        recordMicros(duration.toNanos() / 1_000);
+    }
+
+    public void recordMicros(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Suma los valores de otro histograma a este
+     */
+    public void merge(DurationHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = other.counts.get(i);
+            if (bucketCount > 0) {
+                counts.addAndGet(i, bucketCount);
+            }
+        }
+        count.addAndGet(other.count.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getTotalMillis() {
+        return totalMicros.get() / 1_000.0;
+    }
+
+    public double getMeanMillis() {
+        long samples = count.get();
+        return samples == 0 ? 0 : totalMicros.get() / 1_000.0 / samples;
+    }
+
+    public double getMaxMillis() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * Valor aproximado del percentil indicado (0-100): el punto medio del bucket
+     * que lo contiene, sin superar el máximo registrado
+     */
+    public double getPercentileMillis(double percentile) {
+        long samples = count.get();
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(samples * Math.min(100, Math.max(0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                long lower = lowerBound(i);
+                long middle = lower + (upperBound(i) - lower) / 2;
+                return Math.min(middle, maxMicros.get()) / 1_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Forma compacta "cantidad,total,máximo;bucket:cantidad bucket:cantidad ..."
+     */
+    public String encode() {
+        StringBuilder encoded = new StringBuilder()
+                .append(count.get()).append(',')
+                .append(totalMicros.get()).append(',')
+                .append(maxMicros.get()).append(';');
+        boolean first = true;
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = counts.get(i);
+            if (bucketCount > 0) {
+                if (!first) {
+                    encoded.append(' ');
+                }
+                encoded.append(i).append(':').append(bucketCount);
+                first = false;
+            }
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Reconstruye un histograma desde {@link #encode()}; una entrada corrupta da un histograma vacío
+     */
+    public static DurationHistogram decode(String encoded) {
+        DurationHistogram histogram = new DurationHistogram();
+        if (encoded == null) {
+            return histogram;
+        }
+        try {
+            String[] parts = encoded.split(";", 2);
+            String[] totals = parts[0].split(",");
+            histogram.count.set(Long.parseLong(totals[0].trim()));
+            histogram.totalMicros.set(Long.parseLong(totals[1].trim()));
+            histogram.maxMicros.set(Long.parseLong(totals[2].trim()));
+            if (parts.length > 1) {
+                for (String bucket : parts[1].trim().split("\\s+")) {
+                    if (bucket.isEmpty()) {
+                        continue;
+                    }
+                    String[] pair = bucket.split(":");
+                    histogram.counts.set(Integer.parseInt(pair[0]), Long.parseLong(pair[1]));
+                }
+            }
+        } catch (RuntimeException e) {
+            return new DurationHistogram();
+        }
+        return histogram;
+    }
+
+    // Valores 0-3 tienen bucket propio; desde 4, cada [2^e, 2^(e+1)) se parte en 4
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) ((micros >>> (exponent - 2)) & (SUB_BUCKETS - 1));
+        return (exponent - 1) * SUB_BUCKETS + sub;
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - 2);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket + 1;
+        }
+        int exponent = bucket / SUB_BUCKETS + 1;
+        return lowerBound(bucket) + (1L << (exponent - 2));
+    }
+}
@@ -0,0 +1,300 @@
+package runners;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Reparte los escenarios entre varios shards (procesos o agentes de CI) según
+ * su duración histórica, y los ordena del más largo al más corto.
+ *
+ * Lee la duración promedio de cada escenario del historial de
+ * {@link StepTimingPlugin} (-Dshard.history, por defecto
+ * target/cucumber-timings-history.properties); los escenarios sin historial se
+ * estiman con el promedio de su feature o, si no hay, con la mediana de todos.
+ * Luego asigna cada escenario, del más largo al más corto, al shard con menos
+ * carga acumulada (LPT). Todos los shards calculan el mismo reparto si leen el
+ * mismo historial.
+ *
+ * - -Dshard.count=N -Dshard.index=i (desde 0): este proceso ejecuta solo su parte.
+ * - -Dshard.claims.dir=carpeta: robo de trabajo entre shards. Cada shard ejecuta
+ *   primero su parte y después los escenarios de los otros, empezando por los que
+ *   ellos ejecutarían al final; antes de cada escenario se reclama un archivo en
+ *   la carpeta compartida y, si otro shard ya lo tomó, el escenario se omite.
+ *   La carpeta debe ser nueva en cada ejecución.
+ *
+ * Dentro de un mismo proceso, los escenarios largos quedan primero y los hilos
+ * libres de Cucumber toman los siguientes (el pool de JUnit Platform ya roba
+ * trabajo), así no queda un escenario largo corriendo solo al final. El orden por
+ * duración se desactiva con -Dshard.order=false.
+ *
+ * Se registra en META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    // El launcher de la suite y el externo aplican el filtro sobre el mismo árbol: se planifica una vez
+    private static volatile Plan plan;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (descriptor.isRoot()) {
+            planAndReorder(descriptor);
+            return FilterResult.included("root");
+        }
+        Plan current = plan;
+        String key = scenarioKey(descriptor);
+        if (current == null || key == null || !current.excluded.contains(key)) {
+            return FilterResult.included("shard " + shardIndex());
+        }
+        return FilterResult.excluded("asignado a otro shard");
+    }
+
+    /**
+     * Reclama un escenario antes de ejecutarlo (robo de trabajo entre shards).
+     * Retorna false si otro shard ya lo ejecutó o lo está ejecutando; sin
+     * -Dshard.claims.dir siempre retorna true.
+     */
+    public static boolean claim(URI featureUri, int line) {
+        String claimsDir = System.getProperty("shard.claims.dir");
+        if (claimsDir == null || claimsDir.trim().isEmpty()) {
+            return true;
+        }
+        String key = featureUri + ":" + line;
+        Path claim = Paths.get(claimsDir.trim()).resolve(key.replaceAll("[^A-Za-z0-9.-]", "_") + ".claim");
+        try {
+            Files.createDirectories(claim.getParent());
+            // CREATE_NEW es atómico: solo un shard puede crear el archivo
+            Files.write(claim, ("shard " + shardIndex()).getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE_NEW);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        } catch (IOException e) {
+            System.out.println("Warning: Could not claim scenario " + key + ": " + e.getMessage());
+            return true;
+        }
+    }
+
+    private static synchronized void planAndReorder(TestDescriptor root) {
+        Map<String, TestDescriptor> scenarios = new LinkedHashMap<>();
+        for (TestDescriptor descendant : root.getDescendants()) {
+            String key = scenarioKey(descendant);
+            if (key != null) {
+                scenarios.put(key, descendant);
+            }
+        }
+        if (scenarios.isEmpty()) {
+            return;
+        }
+        if (plan == null) {
+            plan = buildPlan(new ArrayList<>(scenarios.keySet()));
+        }
+        if (plan.ordered) {
+            reorder(root, plan.rank);
+        }
+    }
+
+    private static Plan buildPlan(List<String> keys) {
+        int shardCount = Math.max(1, Integer.getInteger("shard.count", 1));
+        int shardIndex = Math.floorMod(shardIndex(), shardCount);
+        boolean stealing = System.getProperty("shard.claims.dir") != null;
+        Map<String, Double> means = loadScenarioMeans();
+        // Sin historial se conserva el orden de los features
+        boolean ordered = !means.isEmpty() && Boolean.parseBoolean(System.getProperty("shard.order", "true"));
+
+        Map<String, Double> estimates = estimate(keys, means);
+
+        // LPT: del más largo al más corto, cada uno al shard con menos carga; el orden es estable
+        List<String> longestFirst = new ArrayList<>(keys);
+        longestFirst.sort(Comparator.comparing((String key) -> -estimates.get(key)));
+        double[] loads = new double[shardCount];
+        List<List<String>> shards = new ArrayList<>();
+        PriorityQueue<Integer> lightest = new PriorityQueue<>(
+                Comparator.comparingDouble((Integer shard) -> loads[shard]).thenComparingInt(shard -> shard));
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+            lightest.add(i);
+        }
+        for (String key : longestFirst) {
+            int shard = lightest.poll();
+            shards.get(shard).add(key);
+            loads[shard] += estimates.get(key);
+            lightest.add(shard);
+        }
+
+        // Orden de ejecución: los propios primero; luego los ajenos, empezando por el final de cada shard
+        List<String> order = new ArrayList<>(shards.get(shardIndex));
+        Set<String> excluded = new HashSet<>();
+        List<String> stealable = new ArrayList<>();
+        Map<String, Integer> fromEnd = new HashMap<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (shard == shardIndex) {
+                continue;
+            }
+            List<String> others = shards.get(shard);
+            for (int i = 0; i < others.size(); i++) {
+                fromEnd.put(others.get(i), others.size() - 1 - i);
+            }
+            (stealing ? stealable : excluded).addAll(others);
+        }
+        stealable.sort(Comparator.comparing(fromEnd::get));
+        order.addAll(stealable);
+
+        Map<String, Integer> rank = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            rank.put(order.get(i), i);
+        }
+
+        if (shardCount > 1) {
+            StringBuilder summary = new StringBuilder();
+            for (int shard = 0; shard < shardCount; shard++) {
+                summary.append(shard == 0 ? "" : ", ").append(String.format(Locale.ROOT, "%.1f", loads[shard] / 1000));
+            }
+            System.out.println("Shard " + shardIndex + "/" + shardCount + ": " + shards.get(shardIndex).size()
+                    + " of " + keys.size() + " scenarios, estimated load per shard (s): " + summary
+                    + (stealing ? " (work stealing enabled)" : ""));
+        }
+        return new Plan(rank, excluded, ordered);
+    }
+
+    /**
+     * Duración estimada en ms: historial, promedio del feature o mediana general
+     */
+    private static Map<String, Double> estimate(List<String> keys, Map<String, Double> means) {
+        List<Double> known = new ArrayList<>();
+        Map<String, List<Double>> byFeature = new HashMap<>();
+        for (String key : keys) {
+            Double mean = means.get(key);
+            if (mean != null) {
+                known.add(mean);
+                byFeature.computeIfAbsent(featureOf(key), feature -> new ArrayList<>()).add(mean);
+            }
+        }
+        Collections.sort(known);
+        double median = known.isEmpty() ? 1 : known.get(known.size() / 2);
+
+        Map<String, Double> estimates = new HashMap<>();
+        for (String key : keys) {
+            Double mean = means.get(key);
+            if (mean == null) {
+                List<Double> feature = byFeature.get(featureOf(key));
+                mean = feature == null ? median : feature.stream().mapToDouble(Double::doubleValue).average().orElse(median);
+            }
+            estimates.put(key, mean);
+        }
+        return estimates;
+    }
+
+    private static Map<String, Double> loadScenarioMeans() {
+        String configured = System.getProperty("shard.history");
+        Path historyFile = configured != null ? Paths.get(configured) : StepTimingPlugin.defaultHistoryFile();
+        String prefix = StepTimingPlugin.SCENARIO + "|";
+        Map<String, Double> means = new HashMap<>();
+        for (Map.Entry<String, DurationHistogram> entry : StepTimingPlugin.loadHistory(historyFile).entrySet()) {
+            if (entry.getKey().startsWith(prefix) && entry.getValue().getCount() > 0) {
+                means.put(entry.getKey().substring(prefix.length()), entry.getValue().getMeanMillis());
+            }
+        }
+        return means;
+    }
+
+    /**
+     * Ordena los hijos de cada contenedor según el primer escenario que contienen
+     */
+    private static int reorder(TestDescriptor descriptor, Map<String, Integer> rank) {
+        String key = scenarioKey(descriptor);
+        if (key != null) {
+            return rank.getOrDefault(key, Integer.MAX_VALUE);
+        }
+        List<TestDescriptor> children = new ArrayList<>(descriptor.getChildren());
+        Map<TestDescriptor, Integer> childRank = new HashMap<>();
+        int first = Integer.MAX_VALUE;
+        for (TestDescriptor child : children) {
+            int value = reorder(child, rank);
+            childRank.put(child, value);
+            first = Math.min(first, value);
+        }
+        List<TestDescriptor> sorted = new ArrayList<>(children);
+        sorted.sort(Comparator.comparing(childRank::get));
+        if (!sorted.equals(children)) {
+            for (TestDescriptor child : children) {
+                descriptor.removeChild(child);
+            }
+            for (TestDescriptor child : sorted) {
+                descriptor.addChild(child);
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Misma clave que {@link StepTimingPlugin#scenarioKey}: uri del feature y línea,
+     * o null si el descriptor no es un escenario de Cucumber
+     */
+    static String scenarioKey(TestDescriptor descriptor) {
+        if (!descriptor.isTest()) {
+            return null;
+        }
+        Optional<TestSource> source = descriptor.getSource();
+        if (source.isPresent() && source.get() instanceof ClasspathResourceSource) {
+            ClasspathResourceSource resource = (ClasspathResourceSource) source.get();
+            return featureKey("classpath:" + resource.getClasspathResourceName(), resource.getPosition());
+        }
+        if (source.isPresent() && source.get() instanceof FileSource) {
+            FileSource file = (FileSource) source.get();
+            return featureKey(file.getFile().toPath().toUri().toString(), file.getPosition());
+        }
+        return null;
+    }
+
+    private static String featureKey(String uri, Optional<FilePosition> position) {
+        if (!uri.endsWith(".feature") || !position.isPresent()) {
+            return null;
+        }
+        return uri + ":" + position.get().getLine();
+    }
+
+    private static String featureOf(String key) {
+        return key.substring(0, key.lastIndexOf(':'));
+    }
+
+    private static int shardIndex() {
+        return Integer.getInteger("shard.index", 0);
+    }
+
+    private static class Plan {
+        private final Map<String, Integer> rank;
+        private final Set<String> excluded;
+        private final boolean ordered;
+
+        private Plan(Map<String, Integer> rank, Set<String> excluded, boolean ordered) {
+            this.rank = rank;
+            this.excluded = excluded;
+            this.ordered = ordered;
+        }
+    }
+}
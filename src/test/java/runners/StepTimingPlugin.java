@@ -0,0 +1,333 @@
+package runners;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.json.Json;
+
+import utils.PropertiesFiles;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Plugin de Cucumber que mide cuánto tarda cada paso, escenario y feature.
+ *
+ * Usa la duración que Cucumber ya calcula en los eventos de fin de paso y de
+ * escenario, así que no agrega trabajo a los steps: por evento solo se
+ * incrementa un contador en un histograma sin bloqueos. Los pasos se agrupan
+ * por definición (steps.LoginSteps.userLogsIn(...)), no por texto, para ver qué
+ * método de steps.* consume el tiempo; los hooks se agrupan igual.
+ *
+ * Al terminar la ejecución los histogramas se suman al historial de ejecuciones
+ * anteriores y se escriben, junto al reporte html:
+ * - target/cucumber-timings.json y .csv: percentiles de esta ejecución y acumulados
+ * - target/cucumber-timings-history.properties: historial para la próxima ejecución,
+ *   actualizado bajo lock para que los shards que terminan a la vez no se pisen
+ *
+ * Se registra en cucumber.plugin como "runners.StepTimingPlugin:target/cucumber-timings";
+ * el argumento es la ruta base de los archivos.
+ */
+public class StepTimingPlugin implements ConcurrentEventListener {
+
+    public static final String STEP = "step";
+    public static final String HOOK = "hook";
+    public static final String SCENARIO = "scenario";
+    public static final String FEATURE = "feature";
+
+    private static final String DEFAULT_BASE = "target/cucumber-timings";
+    private static final double[] PERCENTILES = {50, 90, 99};
+    private static final String HISTORY_COMMENT = "Historial de tiempos: cantidad,total_us,max_us;bucket:cantidad ...";
+
+    private final Path jsonFile;
+    private final Path csvFile;
+    private final Path historyFile;
+
+    // Entradas de esta ejecución por "tipo|clave"
+    private final Map<String, TimingEntry> entries = new ConcurrentHashMap<>();
+
+    // Tiempo de trabajo por feature: suma de sus escenarios (en paralelo se solapan)
+    private final Map<String, AtomicLong> featureMicros = new ConcurrentHashMap<>();
+
+    public StepTimingPlugin() {
+        this(DEFAULT_BASE);
+    }
+
+    public StepTimingPlugin(String basePath) {
+        String base = basePath == null || basePath.trim().isEmpty() ? DEFAULT_BASE : basePath.trim();
+        this.jsonFile = Paths.get(base + ".json");
+        this.csvFile = Paths.get(base + ".csv");
+        this.historyFile = Paths.get(base + "-history.properties");
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, this::onStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, this::onRunFinished);
+    }
+
+    private void onStepFinished(TestStepFinished event) {
+        Result result = event.getResult();
+        if (!wasExecuted(result)) {
+            return;
+        }
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            String codeLocation = step.getCodeLocation();
+            String key = codeLocation != null ? codeLocation : step.getStep().getText();
+            entry(STEP, key, step.getPattern() != null ? step.getPattern() : step.getStep().getText())
+                    .histogram.record(result.getDuration());
+        } else if (event.getTestStep() instanceof HookTestStep) {
+            HookTestStep hook = (HookTestStep) event.getTestStep();
+            entry(HOOK, hook.getCodeLocation(), hook.getHookType().toString())
+                    .histogram.record(result.getDuration());
+        }
+    }
+
+    private void onCaseFinished(TestCaseFinished event) {
+        Result result = event.getResult();
+        // Los escenarios omitidos (por ejemplo tomados por otro shard) no cuentan como duración
+        if (!wasExecuted(result)) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        entry(SCENARIO, scenarioKey(testCase), testCase.getName()).histogram.record(result.getDuration());
+
+        long micros = result.getDuration().toNanos() / 1_000;
+        featureMicros.computeIfAbsent(String.valueOf(testCase.getUri()), uri -> new AtomicLong()).addAndGet(micros);
+    }
+
+    private void onRunFinished(TestRunFinished event) {
+        for (Map.Entry<String, AtomicLong> feature : featureMicros.entrySet()) {
+            entry(FEATURE, feature.getKey(), feature.getKey()).histogram.recordMicros(feature.getValue().get());
+        }
+
+        try {
+            if (jsonFile.getParent() != null) {
+                Files.createDirectories(jsonFile.getParent());
+            }
+            // Los shards terminan a la vez: la suma al historial se hace bajo lock (ver PropertiesFiles)
+            Properties saved = PropertiesFiles.update(historyFile, HISTORY_COMMENT, this::mergeInto);
+            Map<String, DurationHistogram> history = historyFrom(saved);
+            Map<String, String> labels = labelsFrom(saved);
+            writeJson(history, labels, event.getInstant());
+            writeCsv(history, labels);
+            System.out.println("Step timings written to " + jsonFile + " and " + csvFile);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not write step timings: " + e.getMessage());
+        }
+    }
+
+    // ---------- Historial ----------
+
+    /**
+     * Histogramas acumulados de ejecuciones anteriores, por "tipo|clave"
+     * (por ejemplo "scenario|classpath:features/login.feature:8")
+     */
+    public static Map<String, DurationHistogram> loadHistory(Path historyFile) {
+        return historyFrom(readProperties(historyFile));
+    }
+
+    private static Map<String, DurationHistogram> historyFrom(Properties properties) {
+        Map<String, DurationHistogram> history = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.endsWith(".label")) {
+                history.put(name, DurationHistogram.decode(properties.getProperty(name)));
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Ruta del historial por defecto, la que usa el plugin sin argumento
+     */
+    public static Path defaultHistoryFile() {
+        return Paths.get(DEFAULT_BASE + "-history.properties");
+    }
+
+    /**
+     * Clave con que se registra un escenario: uri del feature y línea
+     */
+    public static String scenarioKey(TestCase testCase) {
+        return testCase.getUri() + ":" + testCase.getLocation().getLine();
+    }
+
+    private static Map<String, String> labelsFrom(Properties properties) {
+        Map<String, String> labels = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.endsWith(".label")) {
+                labels.put(name.substring(0, name.length() - ".label".length()), properties.getProperty(name));
+            }
+        }
+        return labels;
+    }
+
+    private static Properties readProperties(Path file) {
+        try {
+            return PropertiesFiles.read(file);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not load step timing history: " + e.getMessage());
+            return new Properties();
+        }
+    }
+
+    /**
+     * Suma los histogramas de esta ejecución al historial recién leído del archivo
+     */
+    private void mergeInto(Properties properties) {
+        for (TimingEntry entry : entries.values()) {
+            String encoded = properties.getProperty(entry.id);
+            DurationHistogram merged = encoded != null ? DurationHistogram.decode(encoded) : new DurationHistogram();
+            merged.merge(entry.histogram);
+            properties.setProperty(entry.id, merged.encode());
+            properties.setProperty(entry.id + ".label", entry.label);
+        }
+    }
+
+    // ---------- Resumen ----------
+
+    private void writeJson(Map<String, DurationHistogram> history, Map<String, String> labels, Instant finishedAt)
+            throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (String id : sortedIds(history)) {
+            String[] kindAndKey = id.split("\\|", 2);
+            TimingEntry current = entries.get(id);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("type", kindAndKey[0]);
+            row.put("key", kindAndKey[1]);
+            row.put("label", labels.getOrDefault(id, kindAndKey[1]));
+            row.put("run", current != null ? summary(current.histogram) : null);
+            row.put("history", summary(history.get(id)));
+            rows.add(row);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", String.valueOf(finishedAt));
+        report.put("unit", "ms");
+        report.put("timings", rows);
+        try (Writer out = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8)) {
+            out.write(new Json().toJson(report));
+        }
+    }
+
+    private void writeCsv(Map<String, DurationHistogram> history, Map<String, String> labels) throws IOException {
+        try (Writer out = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+            out.write("type,key,label,run_count,run_total_ms,count,mean_ms,p50_ms,p90_ms,p99_ms,max_ms,total_ms\n");
+            for (String id : sortedIds(history)) {
+                String[] kindAndKey = id.split("\\|", 2);
+                TimingEntry current = entries.get(id);
+                DurationHistogram total = history.get(id);
+
+                StringBuilder line = new StringBuilder()
+                        .append(kindAndKey[0]).append(',')
+                        .append(csv(kindAndKey[1])).append(',')
+                        .append(csv(labels.getOrDefault(id, kindAndKey[1]))).append(',')
+                        .append(current != null ? current.histogram.getCount() : 0).append(',')
+                        .append(millis(current != null ? current.histogram.getTotalMillis() : 0)).append(',')
+                        .append(total.getCount()).append(',')
+                        .append(millis(total.getMeanMillis()));
+                for (double percentile : PERCENTILES) {
+                    line.append(',').append(millis(total.getPercentileMillis(percentile)));
+                }
+                line.append(',').append(millis(total.getMaxMillis()))
+                        .append(',').append(millis(total.getTotalMillis()))
+                        .append('\n');
+                out.write(line.toString());
+            }
+        }
+    }
+
+    /**
+     * Orden del resumen: por tipo y, dentro de cada tipo, mayor tiempo acumulado primero
+     */
+    private static List<String> sortedIds(Map<String, DurationHistogram> history) {
+        List<String> ids = new ArrayList<>(history.keySet());
+        ids.sort(Comparator.comparing((String id) -> typeOrder(id.substring(0, id.indexOf('|'))))
+                .thenComparing(id -> -history.get(id).getTotalMillis()));
+        return ids;
+    }
+
+    private static int typeOrder(String type) {
+        switch (type) {
+            case FEATURE: return 0;
+            case SCENARIO: return 1;
+            case STEP: return 2;
+            default: return 3;
+        }
+    }
+
+    private static Map<String, Object> summary(DurationHistogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getCount());
+        summary.put("mean", round(histogram.getMeanMillis()));
+        for (double percentile : PERCENTILES) {
+            summary.put("p" + (int) percentile, round(histogram.getPercentileMillis(percentile)));
+        }
+        summary.put("max", round(histogram.getMaxMillis()));
+        summary.put("total", round(histogram.getTotalMillis()));
+        return summary;
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+
+    private static String millis(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String csv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static boolean wasExecuted(Result result) {
+        return result.getDuration() != null
+                && (result.getStatus() == Status.PASSED || result.getStatus() == Status.FAILED);
+    }
+
+    private TimingEntry entry(String type, String key, String label) {
+        return entries.computeIfAbsent(type + "|" + key, id -> new TimingEntry(id, label));
+    }
+
+    /**
+     * Histograma de esta ejecución para un paso, hook, escenario o feature
+     */
+    private static class TimingEntry {
+        private final String id;
+        private final String label;
+        private final DurationHistogram histogram = new DurationHistogram();
+
+        private TimingEntry(String id, String label) {
+            this.id = id;
+            this.label = label;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package runners;
 
-import org.junit.runner.RunWith;
-import io.cucumber.junit.Cucumber;
-import io.cucumber.junit.CucumberOptions;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
 
 /**
  * Configuración principal para la ejecución de pruebas automatizadas.
@@ -11,14 +14,17 @@ import io.cucumber.junit.CucumberOptions;
  * - Los escenarios de negocio se validan mediante Cucumber + Gherkin (BDD)
  * - Las pruebas técnicas adicionales validan reglas del dominio y no flujos UI
  * - Ambos enfoques son complementarios para garantizar cobertura completa
+ *
+ * EJECUCIÓN:
+ * - Los escenarios corren en paralelo, cada uno en un hilo con su propio navegador
+ * - Paralelismo, plugins, tags y recursos exclusivos se configuran en
+ *   src/test/resources/junit-platform.properties y se pueden sobrescribir con -Dcucumber.*
+ *   (por ejemplo -Dcucumber.filter.tags=@login)
  */
-@RunWith(Cucumber.class)
-@CucumberOptions(
-        features = "src/test/resources/features",
-        glue = "steps",
-        tags = "@createTask",
-        plugin = {"pretty"}
-)
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "steps")
 public class TestRunner {
         
 }
@@ -0,0 +1,296 @@
+package server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.json.Json;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import server.StubStore.Task;
+import server.StubStore.User;
+
+/**
+ * Servidor HTTP embebido que reemplaza a Sentra Tasks para ejecuciones locales.
+ *
+ * Sirve una SPA (src/test/resources/stub) que reproduce las pantallas y selectores
+ * que usan los Page Objects: login, dashboard, home con la tabla paginada de tareas,
+ * perfil y los modales de registro, edición de usuario, cambio de contraseña y
+ * creación de tarea. Los datos viven en un {@link StubStore} en memoria.
+ *
+ * Se activa con -Dsentra.stub=true: AppConfig lo inicia en un puerto libre y
+ * apunta la URL base a él. También puede iniciarse solo con el método main.
+ */
+public class SentraStubServer {
+
+    public static final String SESSION_COOKIE = "sentra_session";
+
+    // Rutas de la SPA que requieren sesión; sin ella se redirige a /login
+    private static final List<String> PROTECTED_PATHS = Arrays.asList("/dashboard", "/home", "/profile");
+
+    private static SentraStubServer shared;
+
+    private final Json json = new Json();
+    private final StubStore store = new StubStore();
+    private final Map<String, byte[]> assets = new HashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    public SentraStubServer(int port) throws IOException {
+        assets.put("/index.html", readResource("/stub/index.html"));
+        assets.put("/app.js", readResource("/stub/app.js"));
+        assets.put("/app.css", readResource("/stub/app.css"));
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "sentra-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/api/", this::handleApi);
+        server.createContext("/", this::handlePage);
+    }
+
+    /**
+     * Instancia compartida por toda la ejecución, iniciada en un puerto libre la primera vez
+     */
+    public static synchronized SentraStubServer getShared() {
+        if (shared == null) {
+            try {
+                shared = new SentraStubServer(Integer.getInteger("sentra.stub.port", 0));
+                shared.start();
+            } catch (IOException e) {
+                throw new IllegalStateException("No se pudo iniciar el servidor de reemplazo de Sentra Tasks", e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "sentra-stub-shutdown"));
+        }
+        return shared;
+    }
+
+    public void start() {
+        server.start();
+        System.out.println("Sentra Tasks stub listening on " + getBaseUrl());
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    public StubStore getStore() {
+        return store;
+    }
+
+    // ---------- Páginas ----------
+
+    private void handlePage(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+
+        if (path.equals("/app.js") || path.equals("/app.css")) {
+            String type = path.endsWith(".js") ? "application/javascript" : "text/css";
+            send(exchange, 200, type + "; charset=utf-8", assets.get(path));
+            return;
+        }
+        if (path.equals("/logout")) {
+            store.logout(sessionToken(exchange));
+            exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+            redirect(exchange, "/login");
+            return;
+        }
+
+        boolean loggedIn = store.userForToken(sessionToken(exchange)) != null;
+        if (PROTECTED_PATHS.contains(path) && !loggedIn) {
+            redirect(exchange, "/login");
+            return;
+        }
+        send(exchange, 200, "text/html; charset=utf-8", assets.get("/index.html"));
+    }
+
+    // ---------- API JSON ----------
+
+    private void handleApi(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        try {
+            if (path.equals("/api/auth/login") && method.equals("POST")) {
+                Map<String, Object> body = readBody(exchange);
+                String token = store.login(text(body, "email"), text(body, "password"));
+                if (token == null) {
+                    sendJson(exchange, 401, message("Usuario o contraseña incorrecto"));
+                    return;
+                }
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=/");
+                sendJson(exchange, 200, store.userForToken(token).toJson());
+                return;
+            }
+            if (path.equals("/api/auth/logout") && method.equals("POST")) {
+                store.logout(sessionToken(exchange));
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+                sendJson(exchange, 200, message("Sesión cerrada"));
+                return;
+            }
+            if (path.equals("/api/users") && method.equals("POST")) {
+                Map<String, Object> body = readBody(exchange);
+                String error = store.register(text(body, "firstName"), text(body, "lastName"),
+                        text(body, "email"), text(body, "password"), text(body, "repeatPassword"));
+                sendResult(exchange, error, 201, "Usuario registrado exitosamente");
+                return;
+            }
+
+            User user = store.userForToken(sessionToken(exchange));
+            if (user == null) {
+                sendJson(exchange, 401, message("Sesión no válida"));
+                return;
+            }
+
+            if (path.equals("/api/me") && method.equals("GET")) {
+                sendJson(exchange, 200, user.toJson());
+            } else if (path.equals("/api/me") && method.equals("PUT")) {
+                Map<String, Object> body = readBody(exchange);
+                String error = store.updateUser(user, text(body, "firstName"), text(body, "lastName"), text(body, "email"));
+                sendResult(exchange, error, 200, "Datos de usuario modificados correctamente");
+            } else if (path.equals("/api/me/password") && method.equals("POST")) {
+                Map<String, Object> body = readBody(exchange);
+                String error = store.changePassword(user, text(body, "currentPassword"),
+                        text(body, "newPassword"), text(body, "repeatPassword"));
+                sendResult(exchange, error, 200, "La contrasena fue modificada correctamente");
+            } else if (path.equals("/api/tasks") && method.equals("GET")) {
+                List<Map<String, Object>> tasks = new ArrayList<>();
+                for (Task task : store.tasksOf(user)) {
+                    tasks.add(task.toJson());
+                }
+                sendJson(exchange, 200, tasks);
+            } else if (path.equals("/api/tasks") && method.equals("POST")) {
+                Map<String, Object> body = readBody(exchange);
+                String error = store.createTask(user, text(body, "title"), text(body, "description"),
+                        text(body, "priority"), text(body, "dueDate"));
+                sendResult(exchange, error, 201, "Tarea creada correctamente");
+            } else if (path.startsWith("/api/tasks/") && method.equals("DELETE")) {
+                long id = Long.parseLong(path.substring("/api/tasks/".length()));
+                if (store.deleteTask(user, id)) {
+                    sendJson(exchange, 200, message("Tarea eliminada"));
+                } else {
+                    sendJson(exchange, 404, message("Tarea no encontrada"));
+                }
+            } else {
+                sendJson(exchange, 404, message("Recurso no encontrado"));
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Warning: Stub request " + method + " " + path + " failed: " + e.getMessage());
+            sendJson(exchange, 400, message("Solicitud inválida"));
+        }
+    }
+
+    // ---------- Utilidades HTTP ----------
+
+    private void sendResult(HttpExchange exchange, String error, int successStatus, String successMessage) throws IOException {
+        if (error != null) {
+            sendJson(exchange, 400, message(error));
+        } else {
+            sendJson(exchange, successStatus, message(successMessage));
+        }
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, "application/json; charset=utf-8", json.toJson(body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (body.trim().isEmpty()) {
+                return Collections.emptyMap();
+            }
+            Map<String, Object> parsed = json.toType(body, Json.MAP_TYPE);
+            return parsed != null ? parsed : Collections.emptyMap();
+        }
+    }
+
+    private static String sessionToken(HttpExchange exchange) {
+        List<String> headers = exchange.getRequestHeaders().get("Cookie");
+        if (headers == null) {
+            return null;
+        }
+        for (String header : headers) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && pair[0].equals(SESSION_COOKIE) && !pair[1].isEmpty()) {
+                    return pair[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String text(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        return value == null ? "" : String.valueOf(value);
+    }
+
+    private static Map<String, Object> message(String text) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", text);
+        return body;
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        try (InputStream in = SentraStubServer.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IOException("Recurso no encontrado: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Inicia el servidor de forma independiente (puerto opcional, por defecto 10100)
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 10100;
+        new SentraStubServer(port).start();
+    }
+}
@@ -0,0 +1,295 @@
+package server;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Almacenamiento en memoria del servidor de reemplazo de Sentra Tasks.
+ *
+ * Guarda usuarios, sesiones y tareas, y aplica las mismas validaciones que la
+ * aplicación real muestra en pantalla (campos requeridos, formato de email,
+ * contraseñas distintas, email duplicado). Todos los métodos son sincronizados:
+ * el servidor atiende peticiones en varios hilos.
+ */
+public class StubStore {
+
+    public static final String SEED_EMAIL = "scastro@sentra.cl";
+    public static final String SEED_PASSWORD = "123";
+
+    private static final Pattern EMAIL = Pattern.compile("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final Map<String, User> usersByEmail = new LinkedHashMap<>();
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private long nextTaskId = 1;
+
+    public StubStore() {
+        reset();
+    }
+
+    /**
+     * Vuelve al estado inicial: el usuario de pruebas con sus tareas de ejemplo y sin sesiones
+     */
+    public synchronized void reset() {
+        usersByEmail.clear();
+        sessions.clear();
+        tasks.clear();
+        nextTaskId = 1;
+
+        resetSeedAccount();
+
+        String[] titles = {
+            "Revisar informe mensual", "actualizar dependencias", "Preparar demo cliente",
+            "Corregir bug de login", "Documentar API de tareas", "Planificar sprint",
+            "Reunión con QA", "Migrar base de datos", "Optimizar consultas",
+            "Diseñar nueva vista", "Configurar CI", "Responder correos"
+        };
+        LocalDateTime base = LocalDateTime.of(2025, 1, 6, 9, 0);
+        for (int i = 0; i < titles.length; i++) {
+            LocalDateTime created = base.plusDays(i);
+            // Fechas de vencimiento y prioridades desordenadas para que ordenar tenga efecto
+            LocalDateTime due = created.plusDays((i * 7) % 11 + 1).plusHours(i % 3);
+            int priority = (i * 5) % 9 + 1;
+            addTask(SEED_EMAIL, titles[i], "Tarea de ejemplo " + (i + 1), priority, created, due);
+        }
+    }
+
+    /**
+     * Devuelve el usuario de pruebas a sus datos iniciales (nombre y contraseña "123")
+     * sin tocar sesiones ni tareas, que pueden pertenecer a escenarios en curso
+     */
+    public synchronized void resetSeedAccount() {
+        usersByEmail.put(SEED_EMAIL, new User("Sebastian", "Castro", SEED_EMAIL, SEED_PASSWORD));
+    }
+
+    // ---------- Sesiones ----------
+
+    /**
+     * Retorna un token de sesión si las credenciales son válidas, o null
+     */
+    public synchronized String login(String email, String password) {
+        User user = usersByEmail.get(email);
+        if (user == null || !user.password.equals(password)) {
+            return null;
+        }
+        String token = UUID.randomUUID().toString();
+        sessions.put(token, email);
+        return token;
+    }
+
+    public void logout(String token) {
+        if (token != null) {
+            sessions.remove(token);
+        }
+    }
+
+    /**
+     * Usuario dueño del token, o null si la sesión no existe
+     */
+    public synchronized User userForToken(String token) {
+        if (token == null) {
+            return null;
+        }
+        String email = sessions.get(token);
+        return email != null ? usersByEmail.get(email) : null;
+    }
+
+    // ---------- Usuarios ----------
+
+    /**
+     * Registra un usuario nuevo; retorna null si es válido o el mensaje de error
+     */
+    public synchronized String register(String firstName, String lastName, String email,
+                                        String password, String repeatPassword) {
+        if (isBlank(firstName) || isBlank(lastName) || isBlank(email) || isBlank(password)) {
+            return "Todos los campos son requeridos";
+        }
+        if (!EMAIL.matcher(email).matches()) {
+            return "El email no tiene un formato válido";
+        }
+        if (!password.equals(repeatPassword)) {
+            return "Las contraseñas no coinciden";
+        }
+        if (usersByEmail.containsKey(email)) {
+            return "El email ya se encuentra registrado";
+        }
+        usersByEmail.put(email, new User(firstName, lastName, email, password));
+        return null;
+    }
+
+    /**
+     * Modifica nombre, apellido y email; retorna null si es válido o el mensaje de error
+     */
+    public synchronized String updateUser(User user, String firstName, String lastName, String email) {
+        if (isBlank(firstName) || isBlank(lastName) || isBlank(email)) {
+            return "Todos los campos son requeridos";
+        }
+        if (!EMAIL.matcher(email).matches()) {
+            return "El email no tiene un formato válido";
+        }
+        if (!email.equals(user.email) && usersByEmail.containsKey(email)) {
+            return "El email ya se encuentra registrado";
+        }
+        if (!email.equals(user.email)) {
+            usersByEmail.remove(user.email);
+            sessions.replaceAll((token, owner) -> owner.equals(user.email) ? email : owner);
+            for (Task task : tasks) {
+                if (task.owner.equals(user.email)) {
+                    task.owner = email;
+                }
+            }
+            user.email = email;
+            usersByEmail.put(email, user);
+        }
+        user.firstName = firstName;
+        user.lastName = lastName;
+        return null;
+    }
+
+    /**
+     * Cambia la contraseña; retorna null si es válido o el mensaje de error
+     */
+    public synchronized String changePassword(User user, String current, String newPassword, String repeat) {
+        if (isBlank(current) || isBlank(newPassword) || isBlank(repeat)) {
+            return "Todos los campos son requeridos";
+        }
+        if (!newPassword.equals(repeat)) {
+            return "Las contraseñas nuevas no coinciden";
+        }
+        if (!user.password.equals(current)) {
+            return "La contraseña actual es incorrecta";
+        }
+        user.password = newPassword;
+        return null;
+    }
+
+    // ---------- Tareas ----------
+
+    /**
+     * Tareas del usuario, la más reciente primero
+     */
+    public synchronized List<Task> tasksOf(User user) {
+        List<Task> result = new ArrayList<>();
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            if (tasks.get(i).owner.equals(user.email)) {
+                result.add(tasks.get(i).copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Crea una tarea; retorna null si es válida o el mensaje de error
+     */
+    public synchronized String createTask(User user, String title, String description, String priority, String dueDate) {
+        if (isBlank(title)) {
+            return "El título es requerido";
+        }
+        if (isBlank(dueDate)) {
+            return "La fecha de vencimiento es requerida";
+        }
+        int parsedPriority;
+        LocalDateTime parsedDue;
+        try {
+            parsedPriority = Integer.parseInt(priority == null ? "" : priority.trim());
+        } catch (NumberFormatException e) {
+            return "La prioridad es requerida";
+        }
+        try {
+            // datetime-local envía "yyyy-MM-ddTHH:mm", a veces con segundos
+            parsedDue = LocalDateTime.parse(dueDate.trim());
+        } catch (RuntimeException e) {
+            return "La fecha de vencimiento no es válida";
+        }
+        addTask(user.email, title.trim(), description == null ? "" : description.trim(), parsedPriority,
+                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), parsedDue);
+        return null;
+    }
+
+    public synchronized boolean deleteTask(User user, long id) {
+        return tasks.removeIf(task -> task.id == id && task.owner.equals(user.email));
+    }
+
+    private void addTask(String owner, String title, String description, int priority,
+                         LocalDateTime created, LocalDateTime due) {
+        tasks.add(new Task(nextTaskId++, owner, title, description, priority,
+                DATE_FORMAT.format(created), DATE_FORMAT.format(due)));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * Usuario registrado
+     */
+    public static class User {
+        private String firstName;
+        private String lastName;
+        private String email;
+        private String password;
+
+        private User(String firstName, String lastName, String email, String password) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.email = email;
+            this.password = password;
+        }
+
+        public Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("firstName", firstName);
+            json.put("lastName", lastName);
+            json.put("email", email);
+            return json;
+        }
+    }
+
+    /**
+     * Tarea de un usuario; las fechas se guardan como las muestra la tabla
+     */
+    public static class Task {
+        private final long id;
+        private String owner;
+        private final String title;
+        private final String description;
+        private final int priority;
+        private final String createdAt;
+        private final String dueDate;
+
+        private Task(long id, String owner, String title, String description, int priority,
+                     String createdAt, String dueDate) {
+            this.id = id;
+            this.owner = owner;
+            this.title = title;
+            this.description = description;
+            this.priority = priority;
+            this.createdAt = createdAt;
+            this.dueDate = dueDate;
+        }
+
+        private Task copy() {
+            return new Task(id, owner, title, description, priority, createdAt, dueDate);
+        }
+
+        public Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", id);
+            json.put("title", title);
+            json.put("description", description);
+            json.put("priority", priority);
+            json.put("createdAt", createdAt);
+            json.put("dueDate", dueDate);
+            return json;
+        }
+    }
+}
@@ -24,9 +24,9 @@ public class ChangePasswordSteps {
 
     @When("el usuario abre el formulario de cambiar contrasena")
     public void open_change_password() {
-        profilePage = new ProfilePage(DriverManager.getDriver());
+        profilePage = new ProfilePage(DriverManager.getLazyDriver());
         profilePage.clickChangePassword();
-        changePasswordModal = new ChangePasswordModal(DriverManager.getDriver());
+        changePasswordModal = new ChangePasswordModal(DriverManager.getLazyDriver());
     }
 
     @When("ingresa contrasena actual y nueva contrasena valida")
@@ -48,9 +48,9 @@ public class ChangePasswordSteps {
     @Given("el usuario ha cambiado su contrasena exitosamente")
     public void el_usuario_ha_cambiado_su_contrasena_exitosamente() {
         // Realizar cambio de contraseña
-        profilePage = new ProfilePage(DriverManager.getDriver());
+        profilePage = new ProfilePage(DriverManager.getLazyDriver());
         profilePage.clickChangePassword();
-        changePasswordModal = new ChangePasswordModal(DriverManager.getDriver());
+        changePasswordModal = new ChangePasswordModal(DriverManager.getLazyDriver());
         
         changePasswordModal.fillPasswords(oldPassword, newPassword, newPassword);
         changePasswordModal.submit();
@@ -126,14 +126,14 @@ public class ChangePasswordSteps {
     @When("cierra sesion")
     public void cierra_sesion() {
         // Navegar de vuelta al home y hacer logout
-        pages.HomePage homePage = new pages.HomePage(DriverManager.getDriver());
+        pages.HomePage homePage = new pages.HomePage(DriverManager.getLazyDriver());
         homePage.navigateToHome();
         homePage.logout();
     }
 
     @When("intenta iniciar sesion con la contrasena antigua")
     public void intenta_iniciar_sesion_con_la_contrasena_antigua() {
-        pages.LoginPage loginPage = new pages.LoginPage(DriverManager.getDriver());
+        pages.LoginPage loginPage = new pages.LoginPage(DriverManager.getLazyDriver());
         loginPage.fillEmail("scastro@sentra.cl");
         loginPage.fillPassword(oldPassword); // Usar contraseña antigua
         loginPage.submit();
@@ -141,14 +141,14 @@ public class ChangePasswordSteps {
 
     @Then("el login falla con la contrasena antigua")
     public void el_login_falla_con_la_contrasena_antigua() {
-        pages.LoginPage loginPage = new pages.LoginPage(DriverManager.getDriver());
+        pages.LoginPage loginPage = new pages.LoginPage(DriverManager.getLazyDriver());
         assertTrue("El login debe fallar con la contraseña antigua", 
                    loginPage.hasLoginError() || loginPage.isStillOnLoginPage());
     }
 
     @Then("se muestra mensaje de credenciales invalidas")
     public void se_muestra_mensaje_de_credenciales_invalidas() {
-        pages.LoginPage loginPage = new pages.LoginPage(DriverManager.getDriver());
+        pages.LoginPage loginPage = new pages.LoginPage(DriverManager.getLazyDriver());
         assertTrue("Debe mostrar error de credenciales inválidas", 
                    loginPage.hasLoginError());
     }
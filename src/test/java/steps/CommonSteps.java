@@ -13,13 +13,10 @@ public class CommonSteps {
 
     @Given("el usuario ha iniciado sesion correctamente")
     public void usuario_logueado() {
-        LoginPage loginPage = new LoginPage(DriverManager.getDriver());
-        loginPage.open();
-        loginPage.login("scastro@sentra.cl", "123");
-        
-        // CRITICAL FIX: Navigate to Home after login since app redirects to /dashboard (blank screen)
-        HomePage homePage = new HomePage(DriverManager.getDriver());
-        homePage.navigateToHome();
+        // Reutiliza la sesión del hilo si existe; si no, login por UI y navegación a Home
+        // (la app redirige a /dashboard, que muestra pantalla en blanco)
+        LoginPage loginPage = new LoginPage(DriverManager.getLazyDriver());
+        loginPage.loginWithSessionCache("scastro@sentra.cl", "123");
     }
 
     // =========================
@@ -28,7 +25,7 @@ public class CommonSteps {
 
     @Given("el usuario se encuentra en la pantalla Home")
     public void el_usuario_se_encuentra_en_la_pantalla_home() {
-        HomePage homePage = new HomePage(DriverManager.getDriver());
+        HomePage homePage = new HomePage(DriverManager.getLazyDriver());
         // Ensure we are properly navigated to Home page for task operations
         homePage.ensureOnHomePage();
     }
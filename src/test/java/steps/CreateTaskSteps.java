@@ -23,14 +23,14 @@ public class CreateTaskSteps {
 
     @When("el usuario abre el formulario de nueva tarea")
     public void abre_formulario_nueva_tarea() {
-        homePage = new HomePage(DriverManager.getDriver());
+        homePage = new HomePage(DriverManager.getLazyDriver());
         // CRÍTICO: Asegurar que estamos en la página Home antes de intentar crear tareas
         homePage.ensureOnHomePage();
         
         // Almacenar el conteo inicial de tareas antes de crear una nueva
         initialTaskCount = homePage.getTaskCount();
         homePage.clickNuevaTarea();
-        createTaskModal = new CreateTaskModal(DriverManager.getDriver());
+        createTaskModal = new CreateTaskModal(DriverManager.getLazyDriver());
     }
 
     @When("ingresa datos validos de la tarea")
@@ -48,6 +48,7 @@ public class CreateTaskSteps {
 
     @When("confirma la creacion de la tarea")
     public void guarda_tarea() {
+        TestDataGenerator.markUsed(createdTaskTitle);
         createTaskModal.submit();
     }
 
@@ -58,7 +59,7 @@ public class CreateTaskSteps {
     @When("el usuario crea una nueva tarea con datos validos")
     public void el_usuario_crea_una_nueva_tarea_con_datos_validos() {
         // Paso 0: CRÍTICO - Asegurar que estamos en la página Home (no dashboard)
-        homePage = new HomePage(DriverManager.getDriver());
+        homePage = new HomePage(DriverManager.getLazyDriver());
         homePage.ensureOnHomePage();
         
         // Paso 1: Almacenar el conteo inicial de tareas
@@ -66,7 +67,7 @@ public class CreateTaskSteps {
         
         // Paso 2: Abrir el modal de creación de tarea
         homePage.clickNuevaTarea();
-        createTaskModal = new CreateTaskModal(DriverManager.getDriver());
+        createTaskModal = new CreateTaskModal(DriverManager.getLazyDriver());
         
         // Paso 3: Generar y llenar el formulario con datos únicos
         TaskTestData taskData = TestDataGenerator.generateTaskTestData();
@@ -79,6 +80,7 @@ public class CreateTaskSteps {
         createTaskModal.fillDateWithDefault();
         
         // Paso 4: Enviar el formulario
+        TestDataGenerator.markUsed(createdTaskTitle);
         createTaskModal.submit();
     }
 
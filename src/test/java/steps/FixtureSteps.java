@@ -0,0 +1,66 @@
+package steps;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.cucumber.java.After;
+import io.cucumber.java.en.Given;
+import pages.HomePage;
+import utils.ApiFixtures;
+import utils.DriverManager;
+import utils.TestDataGenerator;
+
+/**
+ * Siembra de datos por la API antes de manejar la UI.
+ *
+ * Cucumber crea una instancia por escenario, así las tareas creadas aquí se
+ * eliminan al final del mismo escenario.
+ */
+public class FixtureSteps {
+
+    private ApiFixtures fixtures;
+    private final List<Long> createdTaskIds = new ArrayList<>();
+
+    // =========================
+    // CASO: Datos conocidos para ordenamiento y listado
+    // =========================
+
+    /**
+     * Crea las tareas por la API. Si la siembra falla el paso falla: el escenario
+     * depende de un conjunto de datos conocido, no de lo que ya tenga la cuenta.
+     */
+    @Given("existen {int} tareas de prueba")
+    public void existen_tareas_de_prueba(int count) {
+        long start = System.nanoTime();
+        fixtures = new ApiFixtures().login("scastro@sentra.cl", "123");
+        try {
+            createdTaskIds.addAll(fixtures.createTasks(TestDataGenerator.generateTasks(count, true)));
+        } catch (ApiFixtures.PartialFailureException e) {
+            // Las que sí se crearon se eliminan en deleteSeededTasks
+            createdTaskIds.addAll(e.getCreatedIds());
+            throw e;
+        }
+        System.out.println("Seeded " + createdTaskIds.size() + " tasks via API in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        // La tabla ya estaba abierta: recargar para que muestre las tareas nuevas
+        DriverManager.getLazyDriver().navigate().refresh();
+        new HomePage(DriverManager.getLazyDriver()).ensureOnHomePage();
+    }
+
+    @After
+    public void deleteSeededTasks() {
+        if (fixtures == null || createdTaskIds.isEmpty()) {
+            return;
+        }
+        try {
+            int deleted = fixtures.deleteTasks(createdTaskIds);
+            if (deleted < createdTaskIds.size()) {
+                System.out.println("Warning: Deleted only " + deleted + " of " + createdTaskIds.size() + " seeded tasks");
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Warning: Could not delete seeded tasks: " + e.getMessage());
+        }
+        createdTaskIds.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package steps;
+
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+import org.opentest4j.TestAbortedException;
+
+import io.cucumber.java.After;
+import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
+import io.cucumber.java.Scenario;
+import runners.ShardFilter;
+import server.SentraStubServer;
+import utils.AppConfig;
+import utils.DriverManager;
+import utils.PerformanceCollector;
+
+/**
+ * Hooks de ciclo de vida de los escenarios.
+ *
+ * Los escenarios corren en paralelo y cada hilo arrienda su navegador del pool;
+ * al terminar cada escenario el navegador se devuelve limpio, para que el siguiente
+ * escenario (en este u otro hilo) no herede su estado.
+ */
+public class Hooks {
+
+    /**
+     * Inicia en segundo plano los navegadores del pool mientras Cucumber prepara los escenarios
+     */
+    @BeforeAll
+    public static void warmDriverPool() {
+        DriverManager.prewarm();
+    }
+
+    /**
+     * Con robo de trabajo entre shards (-Dshard.claims.dir), omite el escenario si
+     * otro shard ya lo tomó; corre antes que cualquier otro hook para no iniciar el navegador
+     */
+    @Before(order = 0)
+    public void claimScenario(Scenario scenario) {
+        if (!ShardFilter.claim(scenario.getUri(), scenario.getLine())) {
+            throw new TestAbortedException("Escenario ejecutado por otro shard");
+        }
+    }
+
+    /**
+     * Con el servidor de reemplazo, devuelve la cuenta de pruebas a su contraseña y
+     * datos iniciales: "Cambio de contrasena exitoso" y los escenarios de modificar
+     * usuario la cambian en el almacenamiento compartido. Los escenarios que la
+     * modifican corren solos (SENTRA_ACCOUNT), así el reinicio no afecta a otro en curso.
+     */
+    @Before(order = 1)
+    public void resetStubAccount() {
+        if (AppConfig.isUsingStub()) {
+            SentraStubServer.getShared().getStore().resetSeedAccount();
+        }
+    }
+
+    /**
+     * Adjunta al escenario las métricas de rendimiento tomadas por los Page Objects y
+     * las agrega a la serie de tiempo por página; corre antes de devolver el navegador
+     */
+    @After(order = 20000)
+    public void attachPerformance(Scenario scenario) {
+        List<Map<String, Object>> samples = PerformanceCollector.drain();
+        if (samples.isEmpty()) {
+            return;
+        }
+        scenario.attach(new Json().toJson(samples), "application/json", "performance");
+        PerformanceCollector.appendHistory(scenario.getName(), samples);
+    }
+
+    @After
+    public void releaseDriver() {
+        DriverManager.releaseDriver();
+    }
+}
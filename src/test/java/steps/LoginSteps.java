@@ -18,13 +18,13 @@ public class LoginSteps {
 
     @Given("el usuario esta en la pagina de login")
     public void el_usuario_esta_en_la_pagina_de_login() {
-        loginPage = new LoginPage(DriverManager.getDriver());
+        loginPage = new LoginPage(DriverManager.getLazyDriver());
         loginPage.open();
     }
 
     @When("confirma sus credenciales de acceso")
     public void ingresa_email_y_contrasena_validos() {
-        loginPage = new LoginPage(DriverManager.getDriver());
+        loginPage = new LoginPage(DriverManager.getLazyDriver());
         loginPage.login(
             "scastro@sentra.cl",
             "123"
@@ -54,7 +54,7 @@ public class LoginSteps {
      */
     @When("ingresa credenciales invalidas")
     public void ingresa_credenciales_invalidas() {
-        loginPage = new LoginPage(DriverManager.getDriver());
+        loginPage = new LoginPage(DriverManager.getLazyDriver());
         loginPage.login("usuario@invalido.com", "passwordIncorrecto");
     }
 
@@ -64,7 +64,7 @@ public class LoginSteps {
      */
     @When("ingresa credenciales vacias")
     public void ingresa_credenciales_vacias() {
-        loginPage = new LoginPage(DriverManager.getDriver());
+        loginPage = new LoginPage(DriverManager.getLazyDriver());
         loginPage.login("", "");
     }
 
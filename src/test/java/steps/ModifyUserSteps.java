@@ -21,7 +21,7 @@ public class ModifyUserSteps {
 
     @Given("el usuario se encuentra en la pantalla de perfil")
     public void el_usuario_se_encuentra_en_la_pantalla_de_perfil() {
-        profilePage = new ProfilePage(DriverManager.getDriver());
+        profilePage = new ProfilePage(DriverManager.getLazyDriver());
         profilePage.goToProfile();
         assertTrue(profilePage.isProfileVisible());
     }
@@ -29,7 +29,7 @@ public class ModifyUserSteps {
     @When("el usuario abre el formulario de edicion de datos")
     public void el_usuario_abre_el_formulario_de_edicion_de_datos() {
         profilePage.clickEditUserButton();
-        editUserModal = new EditUserModal(DriverManager.getDriver());
+        editUserModal = new EditUserModal(DriverManager.getLazyDriver());
     }
 
     @When("modifica su nombre y apellido con datos validos")
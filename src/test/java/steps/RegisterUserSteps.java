@@ -22,14 +22,14 @@ public class RegisterUserSteps {
 
     @Given("el usuario se encuentra en la pantalla de login")
     public void el_usuario_se_encuentra_en_la_pantalla_de_login() {
-        loginPage = new LoginPage(DriverManager.getDriver());
+        loginPage = new LoginPage(DriverManager.getLazyDriver());
         loginPage.open();
     }
 
     @When("abre el formulario de crear nuevo usuario")
     public void abre_el_formulario_de_crear_nuevo_usuario() {
         loginPage.clickCreateNewUser();
-        registerUserModal = new RegisterUserModal(DriverManager.getDriver());
+        registerUserModal = new RegisterUserModal(DriverManager.getLazyDriver());
     }
 
     @When("ingresa datos validos de registro")
@@ -41,6 +41,7 @@ public class RegisterUserSteps {
         registerUserModal.fillLastName(userData.getLastName());
         registerUserModal.fillEmail(userData.getEmail());
         registerUserModal.fillPassword(userData.getPassword());
+        TestDataGenerator.markUsed(userData.getEmail());
         registerUserModal.submit();
     }
 
@@ -5,12 +5,8 @@ import io.cucumber.java.en.Then;
 import pages.TasksPage;
 import pages.HomePage;
 import utils.DriverManager;
+import utils.OrderingVerifier;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class SortTaskSteps {
@@ -23,11 +19,11 @@ public class SortTaskSteps {
      */
     private void ensureOnTasksPage() {
         if (homePage == null) {
-            homePage = new HomePage(DriverManager.getDriver());
+            homePage = new HomePage(DriverManager.getLazyDriver());
             homePage.ensureOnHomePage();
         }
         if (tasksPage == null) {
-            tasksPage = new TasksPage(DriverManager.getDriver());
+            tasksPage = new TasksPage(DriverManager.getLazyDriver());
         }
     }
 
@@ -43,10 +39,8 @@ public class SortTaskSteps {
 
     @Then("las tareas quedan ordenadas por prioridad")
     public void valida_orden_por_prioridad() {
-        List<Integer> actual = tasksPage.getPriorities();
-        List<Integer> expected = new ArrayList<>(actual);
-        Collections.sort(expected);
-        assertEquals(expected, actual);
+        OrderingVerifier.Result order = homePage.verifyPriorityOrderAcrossPages(false);
+        assertTrue("Tasks should be sorted by priority: " + order, order.isOrdered());
     }
 
     // =========================
@@ -61,7 +55,8 @@ public class SortTaskSteps {
 
     @Then("las tareas quedan ordenadas alfabeticamente por titulo")
     public void las_tareas_quedan_ordenadas_alfabeticamente_por_titulo() {
-        assertTrue("Tasks should be sorted alphabetically by title", tasksPage.isTasksSortedByTitle());
+        OrderingVerifier.Result order = homePage.verifyTitleOrderAcrossPages(false);
+        assertTrue("Tasks should be sorted alphabetically by title: " + order, order.isOrdered());
     }
 
     // =========================
@@ -76,6 +71,7 @@ public class SortTaskSteps {
 
     @Then("las tareas quedan ordenadas por fecha termino")
     public void las_tareas_quedan_ordenadas_por_fecha_termino() {
-        assertTrue("Tasks should be sorted chronologically by end date", tasksPage.isTasksSortedByDate());
+        OrderingVerifier.Result order = homePage.verifyEndDateOrderAcrossPages(false);
+        assertTrue("Tasks should be sorted chronologically by end date: " + order, order.isOrdered());
     }
 }
@@ -24,28 +24,24 @@ public class TasksSteps {
     @When("el usuario accede a la lista de tareas")
     public void el_usuario_accede_a_la_lista_de_tareas() {
         // Inicializar HomePage y asegurar navegación adecuada
-        homePage = new HomePage(DriverManager.getDriver());
+        homePage = new HomePage(DriverManager.getLazyDriver());
         
         // CRÍTICO: Navegar a la página Home ya que el login redirige a /dashboard (pantalla en blanco)
         homePage.ensureOnHomePage();
         
-        // Esperar un momento para que la página se cargue completamente
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Esperar a que la lista termine de cargar (sin pausa fija)
+        homePage.waitForTaskList();
         
         // Verificar que podemos acceder a la lista de tareas comprobando si las tareas son visibles
         assertTrue("Debe poder acceder a la lista de tareas", homePage.isTaskListNotEmpty() || homePage.getTaskCount() >= 0);
         
         // Inicializar TasksPage para operaciones posteriores
-        tasksPage = new TasksPage(DriverManager.getDriver());
+        tasksPage = new TasksPage(DriverManager.getLazyDriver());
     }
 
     @Then("se muestra la lista de tareas")
     public void se_muestra_la_lista_de_tareas() {
-        tasksPage = new TasksPage(DriverManager.getDriver());
+        tasksPage = new TasksPage(DriverManager.getLazyDriver());
         assertTrue(tasksPage.hasTasks());
     }
 
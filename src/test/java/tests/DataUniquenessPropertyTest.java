@@ -1,12 +1,17 @@
 package tests;
 
 import org.junit.Test;
+import utils.Gen;
+import utils.Property;
 import utils.TestDataGenerator;
 import utils.TestDataGenerator.UserTestData;
 import utils.TestDataGenerator.TaskTestData;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.*;
 
@@ -14,10 +19,16 @@ import static org.junit.Assert.*;
  * Pruebas basadas en propiedades para unicidad de TestDataGenerator
  * Característica: selenium-test-improvements, Propiedad 10: Unicidad de Datos de Prueba
  * **Valida: Requisitos 7.1**
+ *
+ * Las propiedades de unicidad generan lotes de hasta TEST_ITERATIONS valores; si
+ * un lote tiene repetidos, la reducción lo deja en los dos valores que chocan.
+ * Los valores salen de TestDataGenerator, así que -Dproperty.seed repite el
+ * tamaño del lote pero no los valores. Ninguna usa el navegador: corren en paralelo.
  */
 public class DataUniquenessPropertyTest {
 
     private static final int TEST_ITERATIONS = 100;
+    private static final int TRIALS = 20;
 
     /**
      * Propiedad 10: Unicidad de Email
@@ -26,30 +37,20 @@ public class DataUniquenessPropertyTest {
      */
     @Test
     public void testEmailUniquenessProperty() {
-        Set<String> generatedEmails = new HashSet<>();
-        
-        // Generar múltiples emails y verificar unicidad
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            String email = TestDataGenerator.generateUniqueEmail();
-            
-            // Verificar que el email no es null o vacío
-            assertNotNull("El email generado no debe ser null", email);
-            assertFalse("El email generado no debe estar vacío", email.trim().isEmpty());
-            
-            // Verificar que el formato del email es válido
-            assertTrue("El email generado debe contener el símbolo @", email.contains("@"));
-            assertTrue("El email generado debe contener dominio", email.contains("."));
+        Property.forAll("emails únicos", batches(TestDataGenerator::generateUniqueEmail)).trials(TRIALS).parallel().check(emails -> {
+            for (String email : emails) {
+                // Verificar que el email no es null o vacío
+                assertNotNull("El email generado no debe ser null", email);
+                assertFalse("El email generado no debe estar vacío", email.trim().isEmpty());
+                
+                // Verificar que el formato del email es válido
+                assertTrue("El email generado debe contener el símbolo @", email.contains("@"));
+                assertTrue("El email generado debe contener dominio", email.contains("."));
+            }
             
             // Verificar unicidad
-            assertFalse("El email generado debe ser único: " + email, 
-                       generatedEmails.contains(email));
-            
-            generatedEmails.add(email);
-        }
-        
-        // Verificar que generamos el número esperado de emails únicos
-        assertEquals("Debe generar exactamente " + TEST_ITERATIONS + " emails únicos", 
-                    TEST_ITERATIONS, generatedEmails.size());
+            assertAllDistinct("El email generado debe ser único", emails, Function.identity());
+        });
     }
 
     /**
@@ -59,26 +60,16 @@ public class DataUniquenessPropertyTest {
      */
     @Test
     public void testUsernameUniquenessProperty() {
-        Set<String> generatedUsernames = new HashSet<>();
-        
-        // Generate multiple usernames and verify uniqueness
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            String username = TestDataGenerator.generateUniqueUsername();
-            
-            // Verify username is not null or empty
-            assertNotNull("Generated username should not be null", username);
-            assertFalse("Generated username should not be empty", username.trim().isEmpty());
+        Property.forAll("usernames únicos", batches(TestDataGenerator::generateUniqueUsername)).trials(TRIALS).parallel().check(usernames -> {
+            for (String username : usernames) {
+                // Verify username is not null or empty
+                assertNotNull("Generated username should not be null", username);
+                assertFalse("Generated username should not be empty", username.trim().isEmpty());
+            }
             
             // Verify uniqueness
-            assertFalse("Generated username should be unique: " + username, 
-                       generatedUsernames.contains(username));
-            
-            generatedUsernames.add(username);
-        }
-        
-        // Verify we generated the expected number of unique usernames
-        assertEquals("Should generate exactly " + TEST_ITERATIONS + " unique usernames", 
-                    TEST_ITERATIONS, generatedUsernames.size());
+            assertAllDistinct("Generated username should be unique", usernames, Function.identity());
+        });
     }
 
     /**
@@ -88,26 +79,16 @@ public class DataUniquenessPropertyTest {
      */
     @Test
     public void testTaskTitleUniquenessProperty() {
-        Set<String> generatedTitles = new HashSet<>();
-        
-        // Generate multiple task titles and verify uniqueness
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            String title = TestDataGenerator.generateUniqueTaskTitle();
-            
-            // Verify title is not null or empty
-            assertNotNull("Generated task title should not be null", title);
-            assertFalse("Generated task title should not be empty", title.trim().isEmpty());
+        Property.forAll("títulos únicos", batches(TestDataGenerator::generateUniqueTaskTitle)).trials(TRIALS).parallel().check(titles -> {
+            for (String title : titles) {
+                // Verify title is not null or empty
+                assertNotNull("Generated task title should not be null", title);
+                assertFalse("Generated task title should not be empty", title.trim().isEmpty());
+            }
             
             // Verify uniqueness
-            assertFalse("Generated task title should be unique: " + title, 
-                       generatedTitles.contains(title));
-            
-            generatedTitles.add(title);
-        }
-        
-        // Verify we generated the expected number of unique titles
-        assertEquals("Should generate exactly " + TEST_ITERATIONS + " unique task titles", 
-                    TEST_ITERATIONS, generatedTitles.size());
+            assertAllDistinct("Generated task title should be unique", titles, Function.identity());
+        });
     }
 
     /**
@@ -117,33 +98,23 @@ public class DataUniquenessPropertyTest {
      */
     @Test
     public void testUserTestDataUniquenessProperty() {
-        Set<String> generatedEmails = new HashSet<>();
-        
-        // Generate multiple user test data objects and verify email uniqueness
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            UserTestData userData = TestDataGenerator.generateUserTestData();
-            
-            // Verify all fields are populated
-            assertNotNull("First name should not be null", userData.getFirstName());
-            assertNotNull("Last name should not be null", userData.getLastName());
-            assertNotNull("Email should not be null", userData.getEmail());
-            assertNotNull("Password should not be null", userData.getPassword());
-            
-            assertFalse("First name should not be empty", userData.getFirstName().trim().isEmpty());
-            assertFalse("Last name should not be empty", userData.getLastName().trim().isEmpty());
-            assertFalse("Email should not be empty", userData.getEmail().trim().isEmpty());
-            assertFalse("Password should not be empty", userData.getPassword().trim().isEmpty());
+        Property.forAll("usuarios con email único", batches(TestDataGenerator::generateUserTestData)).trials(TRIALS).parallel().check(users -> {
+            for (UserTestData userData : users) {
+                // Verify all fields are populated
+                assertNotNull("First name should not be null", userData.getFirstName());
+                assertNotNull("Last name should not be null", userData.getLastName());
+                assertNotNull("Email should not be null", userData.getEmail());
+                assertNotNull("Password should not be null", userData.getPassword());
+                
+                assertFalse("First name should not be empty", userData.getFirstName().trim().isEmpty());
+                assertFalse("Last name should not be empty", userData.getLastName().trim().isEmpty());
+                assertFalse("Email should not be empty", userData.getEmail().trim().isEmpty());
+                assertFalse("Password should not be empty", userData.getPassword().trim().isEmpty());
+            }
             
             // Verify email uniqueness (key identifier for users)
-            assertFalse("Generated user email should be unique: " + userData.getEmail(), 
-                       generatedEmails.contains(userData.getEmail()));
-            
-            generatedEmails.add(userData.getEmail());
-        }
-        
-        // Verify we generated the expected number of unique user emails
-        assertEquals("Should generate exactly " + TEST_ITERATIONS + " unique user emails", 
-                    TEST_ITERATIONS, generatedEmails.size());
+            assertAllDistinct("Generated user email should be unique", users, UserTestData::getEmail);
+        });
     }
 
     /**
@@ -153,30 +124,20 @@ public class DataUniquenessPropertyTest {
      */
     @Test
     public void testTaskTestDataUniquenessProperty() {
-        Set<String> generatedTitles = new HashSet<>();
-        
-        // Generate multiple task test data objects and verify title uniqueness
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            TaskTestData taskData = TestDataGenerator.generateTaskTestData();
-            
-            // Verify all fields are populated
-            assertNotNull("Title should not be null", taskData.getTitle());
-            assertNotNull("Description should not be null", taskData.getDescription());
-            assertTrue("Priority should be positive", taskData.getPriority() > 0);
-            
-            assertFalse("Title should not be empty", taskData.getTitle().trim().isEmpty());
-            assertFalse("Description should not be empty", taskData.getDescription().trim().isEmpty());
+        Property.forAll("tareas con título único", batches(TestDataGenerator::generateTaskTestData)).trials(TRIALS).parallel().check(tasks -> {
+            for (TaskTestData taskData : tasks) {
+                // Verify all fields are populated
+                assertNotNull("Title should not be null", taskData.getTitle());
+                assertNotNull("Description should not be null", taskData.getDescription());
+                assertTrue("Priority should be positive", taskData.getPriority() > 0);
+                
+                assertFalse("Title should not be empty", taskData.getTitle().trim().isEmpty());
+                assertFalse("Description should not be empty", taskData.getDescription().trim().isEmpty());
+            }
             
             // Verify title uniqueness (key identifier for tasks)
-            assertFalse("Generated task title should be unique: " + taskData.getTitle(), 
-                       generatedTitles.contains(taskData.getTitle()));
-            
-            generatedTitles.add(taskData.getTitle());
-        }
-        
-        // Verify we generated the expected number of unique task titles
-        assertEquals("Should generate exactly " + TEST_ITERATIONS + " unique task titles", 
-                    TEST_ITERATIONS, generatedTitles.size());
+            assertAllDistinct("Generated task title should be unique", tasks, TaskTestData::getTitle);
+        });
     }
 
     /**
@@ -186,10 +147,7 @@ public class DataUniquenessPropertyTest {
      */
     @Test
     public void testPasswordSecurityProperty() {
-        // Test multiple password generations
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            String password = TestDataGenerator.generatePassword();
-            
+        Property.forAll("contraseñas seguras", Gen.of(TestDataGenerator::generatePassword)).trials(TEST_ITERATIONS).parallel().check(password -> {
             // Verify password is not null or empty
             assertNotNull("Generated password should not be null", password);
             assertFalse("Generated password should not be empty", password.trim().isEmpty());
@@ -212,7 +170,7 @@ public class DataUniquenessPropertyTest {
             // Verify contains special character
             assertTrue("Password should contain at least one special character", 
                       password.matches(".*[!@#$%^&*].*"));
-        }
+        });
     }
 
     /**
@@ -222,10 +180,7 @@ public class DataUniquenessPropertyTest {
      */
     @Test
     public void testInvalidEmailGenerationProperty() {
-        // Test multiple invalid email generations
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            String invalidEmail = TestDataGenerator.generateInvalidEmail();
-            
+        Property.forAll("emails inválidos", Gen.of(TestDataGenerator::generateInvalidEmail)).trials(TEST_ITERATIONS).parallel().check(invalidEmail -> {
             // Verify email is not null
             assertNotNull("Generated invalid email should not be null", invalidEmail);
             
@@ -238,7 +193,7 @@ public class DataUniquenessPropertyTest {
                              !invalidEmail.contains(" ");
             
             assertFalse("Generated email should be invalid: " + invalidEmail, isValid);
-        }
+        });
     }
 
     /**
@@ -248,22 +203,34 @@ public class DataUniquenessPropertyTest {
      */
     @Test
     public void testTaskPriorityRangeProperty() {
-        // Test multiple priority generations
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            int priority = TestDataGenerator.generateTaskPriority();
-            
+        Property.forAll("prioridad en rango", Gen.of(TestDataGenerator::generateTaskPriority)).trials(TEST_ITERATIONS).parallel().check(priority -> {
             // Verify priority is within valid range (1-5)
             assertTrue("Priority should be at least 1", priority >= 1);
             assertTrue("Priority should be at most 5", priority <= 5);
-        }
+        });
         
         // Test custom range
-        for (int i = 0; i < TEST_ITERATIONS; i++) {
-            int priority = TestDataGenerator.generateTaskPriority(2, 4);
-            
+        Property.forAll("prioridad en rango 2-4", Gen.of(() -> TestDataGenerator.generateTaskPriority(2, 4))).trials(TEST_ITERATIONS).parallel().check(priority -> {
             // Verify priority is within custom range (2-4)
             assertTrue("Priority should be at least 2", priority >= 2);
             assertTrue("Priority should be at most 4", priority <= 4);
+        });
+    }
+
+    /**
+     * Lotes de 2 a TEST_ITERATIONS valores del generador indicado
+     */
+    private static <T> Gen<List<T>> batches(Supplier<T> generator) {
+        return Gen.listOf(Gen.of(generator), 2, TEST_ITERATIONS);
+    }
+
+    /**
+     * Falla indicando el primer valor repetido del lote, según la clave dada
+     */
+    private static <T> void assertAllDistinct(String message, List<T> values, Function<T, String> key) {
+        Set<String> seen = new HashSet<>();
+        for (T value : values) {
+            assertTrue(message + ": " + key.apply(value), seen.add(key.apply(value)));
         }
     }
 }
\ No newline at end of file
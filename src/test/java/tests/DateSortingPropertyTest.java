@@ -4,13 +4,17 @@ import org.junit.Test;
 import org.junit.Before;
 import org.junit.After;
 import org.openqa.selenium.WebDriver;
+import pages.TaskTableSnapshot;
 import pages.TasksPage;
 import utils.DriverManager;
+import utils.Gen;
+import utils.OrderingVerifier;
+import utils.Property;
 
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Random;
+import java.util.stream.Collectors;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -26,17 +30,23 @@ public class DateSortingPropertyTest {
 
     private TasksPage tasksPage;
     private WebDriver driver;
-    private Random random;
-    private DateTimeFormatter dateFormatter;
+
+    // Formato de fecha común usado en la aplicación
+    private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // Fecha fija (no LocalDate.now()) para que -Dproperty.seed repita el mismo caso cualquier día
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+
+    // Listas de 1 a 10 fechas de vencimiento dentro de +/- 365 días desde BASE_DATE
+    private static final Gen<List<String>> END_DATE_LISTS =
+            Gen.listOf(Gen.dates(BASE_DATE, -365, 364), 1, 10)
+               .map(dates -> dates.stream().map(dateFormatter::format).collect(Collectors.toList()));
 
     @Before
     public void setUp() {
-        // Usar el DriverManager existente para obtener la instancia del driver
-        driver = DriverManager.getDriver();
+        // Referencia perezosa: el navegador solo se inicia si la prueba lo usa
+        driver = DriverManager.getLazyDriver();
         tasksPage = new TasksPage(driver);
-        random = new Random();
-        // Formato de fecha común usado en la aplicación
-        dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     }
 
     @After
@@ -55,49 +65,26 @@ public class DateSortingPropertyTest {
      */
     @Test
     public void testDateSortingProperty() {
-        // Run property test with 100 iterations as specified in design document
-        for (int iteration = 0; iteration < 100; iteration++) {
-            // Generate random date list for this iteration
-            List<String> randomDates = generateRandomEndDates();
-            
+        // 100 pruebas con semilla propia, en paralelo: la propiedad no usa el navegador
+        Property.forAll("ordenamiento por fecha", END_DATE_LISTS).trials(100).parallel().check(randomDates -> {
             // Test the property: sorting should produce chronological order
             List<String> sortedDates = new ArrayList<>(randomDates);
             Collections.sort(sortedDates);
             
             // Verify the sorting property holds
-            assertTrue("Iteration " + iteration + ": Sorted list should be chronologically ordered", 
+            assertTrue("Sorted list should be chronologically ordered", 
                        isSortedChronologically(sortedDates));
             
             // Verify sorting preserves all dates (no loss or addition)
-            assertEquals("Iteration " + iteration + ": Sorting should preserve date count", 
+            assertEquals("Sorting should preserve date count", 
                         randomDates.size(), sortedDates.size());
             
             // Verify all original dates are present
             for (String date : randomDates) {
-                assertTrue("Iteration " + iteration + ": All original dates should be present after sorting: " + date, 
+                assertTrue("All original dates should be present after sorting: " + date, 
                           sortedDates.contains(date));
             }
-        }
-    }
-
-    /**
-     * Generates a random list of end dates for property testing
-     */
-    private List<String> generateRandomEndDates() {
-        List<String> dates = new ArrayList<>();
-        int listSize = random.nextInt(10) + 1; // 1 to 10 dates
-        
-        // Generate dates within a reasonable range (past year to next year)
-        LocalDate baseDate = LocalDate.now();
-        
-        for (int i = 0; i < listSize; i++) {
-            // Generate random date within +/- 365 days from today
-            int daysOffset = random.nextInt(730) - 365; // -365 to +365 days
-            LocalDate randomDate = baseDate.plusDays(daysOffset);
-            dates.add(randomDate.format(dateFormatter));
-        }
-        
-        return dates;
+        });
     }
 
     /**
@@ -105,9 +92,12 @@ public class DateSortingPropertyTest {
      * This mirrors the logic in TasksPage.isTasksSortedByDate()
      */
     private boolean isSortedChronologically(List<String> dates) {
-        List<String> sortedDates = new ArrayList<>(dates);
-        Collections.sort(sortedDates);
-        return dates.equals(sortedDates);
+        long[] millis = new long[dates.size()];
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = TaskTableSnapshot.parseDateMillis(dates.get(i));
+            assertTrue("Date should be parsed: " + dates.get(i), millis[i] != TaskTableSnapshot.NO_DATE);
+        }
+        return OrderingVerifier.verifyLongs(millis, dates, false).isOrdered();
     }
 
     /**
@@ -117,28 +107,26 @@ public class DateSortingPropertyTest {
      */
     @Test
     public void testDateSortingPreservesAllDates() {
-        for (int iteration = 0; iteration < 100; iteration++) {
-            List<String> originalDates = generateRandomEndDates();
-            
+        Property.forAll("ordenar conserva las fechas", END_DATE_LISTS).trials(100).parallel().check(originalDates -> {
             List<String> sortedDates = new ArrayList<>(originalDates);
             Collections.sort(sortedDates);
             
             // Verify same number of dates
-            assertEquals("Iteration " + iteration + ": Sorting should preserve date count", 
+            assertEquals("Sorting should preserve date count", 
                         originalDates.size(), sortedDates.size());
             
             // Verify all original dates are present
             for (String date : originalDates) {
-                assertTrue("Iteration " + iteration + ": All original dates should be present after sorting: " + date, 
+                assertTrue("All original dates should be present after sorting: " + date, 
                           sortedDates.contains(date));
             }
             
             // Verify no new dates were added
             for (String date : sortedDates) {
-                assertTrue("Iteration " + iteration + ": No new dates should be added during sorting: " + date, 
+                assertTrue("No new dates should be added during sorting: " + date, 
                           originalDates.contains(date));
             }
-        }
+        });
     }
 
     /**
@@ -152,13 +140,12 @@ public class DateSortingPropertyTest {
                    isSortedChronologically(emptyList));
         
         // Test single date lists with various dates
-        for (int i = 0; i < 20; i++) {
+        Property.forAll("lista de una fecha", Gen.dates(BASE_DATE, -50, 49)).trials(20).check(randomDate -> {
             List<String> singleDate = new ArrayList<>();
-            LocalDate randomDate = LocalDate.now().plusDays(random.nextInt(100) - 50);
             singleDate.add(randomDate.format(dateFormatter));
             assertTrue("Single date list should be considered sorted", 
                        isSortedChronologically(singleDate));
-        }
+        });
     }
 
     /**
@@ -168,13 +155,10 @@ public class DateSortingPropertyTest {
      */
     @Test
     public void testDateFormatConsistency() {
-        for (int iteration = 0; iteration < 50; iteration++) {
-            // Generate dates in the expected format
-            List<String> dates = generateRandomEndDates();
-            
+        Property.forAll("formato de fecha consistente", END_DATE_LISTS).trials(50).parallel().check(dates -> {
             // Verify all dates follow the expected format
             for (String date : dates) {
-                assertTrue("Iteration " + iteration + ": Date should follow expected format: " + date,
+                assertTrue("Date should follow expected format: " + date,
                           isValidDateFormat(date));
             }
             
@@ -182,9 +166,9 @@ public class DateSortingPropertyTest {
             List<String> sortedDates = new ArrayList<>(dates);
             Collections.sort(sortedDates);
             
-            assertTrue("Iteration " + iteration + ": Dates with consistent format should sort correctly",
+            assertTrue("Dates with consistent format should sort correctly",
                        isSortedChronologically(sortedDates));
-        }
+        });
     }
 
     /**
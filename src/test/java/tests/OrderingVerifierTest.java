@@ -0,0 +1,131 @@
+package tests;
+
+import org.junit.Test;
+import utils.OrderingVerifier;
+import utils.OrderingVerifier.Result;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Pruebas del verificador de orden en una pasada (utils.OrderingVerifier):
+ * colación en español, orden descendente, claves secundarias e índice de la
+ * primera violación, también al verificar página a página.
+ */
+public class OrderingVerifierTest {
+
+    /**
+     * Los acentos, la ñ y las mayúsculas no alteran el orden alfabético
+     */
+    @Test
+    public void testSpanishCollationIgnoresAccentsAndCase() {
+        List<String> titles = Arrays.asList("Diseñar", "Documentar", "Mejorar", "módulo");
+
+        Result result = OrderingVerifier.spanishText(false).verify(titles);
+
+        assertTrue("Los títulos deben estar ordenados: " + result, result.isOrdered());
+        assertEquals(-1, result.getFirstViolation());
+    }
+
+    @Test
+    public void testSpanishCollationReportsFirstViolation() {
+        // "módulo" va después de "Mejorar" (e antes que o), aunque 'M' < 'm' en Unicode
+        List<String> titles = Arrays.asList("Diseñar", "Documentar", "módulo", "Mejorar");
+
+        Result result = OrderingVerifier.spanishText(false).verify(titles);
+
+        assertFalse(result.isOrdered());
+        assertEquals(3, result.getFirstViolation());
+        assertTrue(result.toString(), result.toString().contains("'módulo' aparece antes de 'Mejorar'"));
+    }
+
+    @Test
+    public void testSpanishCollationSortsEnyeAfterN() {
+        assertTrue(OrderingVerifier.spanishText(false).verify(Arrays.asList("Canto", "Caña")).isOrdered());
+        assertEquals(1, OrderingVerifier.spanishText(false).verify(Arrays.asList("Caña", "Canto")).getFirstViolation());
+    }
+
+    @Test
+    public void testDescendingOrder() {
+        assertTrue(OrderingVerifier.spanishText(true)
+                .verify(Arrays.asList("módulo", "Mejorar", "Documentar", "Diseñar")).isOrdered());
+
+        Result result = OrderingVerifier.spanishText(true)
+                .verify(Arrays.asList("módulo", "Diseñar", "Documentar"));
+        assertEquals(2, result.getFirstViolation());
+
+        assertTrue(OrderingVerifier.verifyInts(new int[] {5, 3, 3, 1}, true).isOrdered());
+        assertEquals(1, OrderingVerifier.verifyInts(new int[] {3, 5, 1}, true).getFirstViolation());
+    }
+
+    /**
+     * Títulos iguales para la colación (solo cambian mayúsculas o acentos) se
+     * desempatan por la prioridad
+     */
+    @Test
+    public void testTiesResolvedBySecondaryKey() {
+        OrderingVerifier<Task> byTitleThenPriority = OrderingVerifier
+                .<Task>by(task -> OrderingVerifier.spanishKey(task.title), false)
+                .thenBy(task -> task.priority, true);
+
+        List<Task> ordered = Arrays.asList(
+                new Task("Diseñar", 5), new Task("DISEÑAR", 2), new Task("diseñar", 1), new Task("Documentar", 4));
+        assertTrue(byTitleThenPriority.verify(ordered).isOrdered());
+
+        List<Task> brokenTie = Arrays.asList(
+                new Task("Diseñar", 2), new Task("DISEÑAR", 5), new Task("Documentar", 1));
+        Result result = byTitleThenPriority.verify(brokenTie);
+        assertEquals(1, result.getFirstViolation());
+        assertTrue(result.toString(), result.toString().contains("'Diseñar/2' aparece antes de 'DISEÑAR/5'"));
+    }
+
+    /**
+     * Página a página: la violación entre el último de una página y el primero de
+     * la siguiente se detecta, y el índice cuenta desde el inicio de la tabla
+     */
+    @Test
+    public void testIncrementalViolationAcrossPageBoundary() {
+        OrderingVerifier<String>.Incremental session = OrderingVerifier.spanishText(false).incremental();
+
+        session.acceptAll(Arrays.asList("Análisis", "Diseñar", "Documentar"));
+        assertTrue(session.getResult().isOrdered());
+
+        session.acceptAll(Arrays.asList("Ajustar", "Mejorar"));
+        Result result = session.getResult();
+        assertEquals(3, result.getFirstViolation());
+        assertTrue(result.toString(), result.toString().contains("'Documentar' aparece antes de 'Ajustar'"));
+        assertEquals(5, session.getCount());
+
+        // Las páginas siguientes no cambian la primera violación
+        session.acceptAll(Arrays.asList("Zeta", "Beta"));
+        assertEquals(3, session.getResult().getFirstViolation());
+    }
+
+    @Test
+    public void testIncrementalOrderedAcrossPages() {
+        OrderingVerifier<String>.Incremental session = OrderingVerifier.spanishText(false).incremental();
+
+        session.acceptAll(Arrays.asList("Diseñar", "Documentar"))
+               .acceptAll(Arrays.asList("Mejorar", "módulo"));
+
+        assertTrue(session.getResult().isOrdered());
+        assertEquals(4, session.getCount());
+    }
+
+    private static class Task {
+        private final String title;
+        private final int priority;
+
+        Task(String title, int priority) {
+            this.title = title;
+            this.priority = priority;
+        }
+
+        @Override
+        public String toString() { return title + "/" + priority; }
+    }
+}
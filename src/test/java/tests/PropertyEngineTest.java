@@ -0,0 +1,124 @@
+package tests;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utils.Gen;
+import utils.Property;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Pruebas del motor de propiedades (utils.Property y utils.Gen): reducción al
+ * contraejemplo mínimo y repetición de un caso con -Dproperty.seed.
+ */
+public class PropertyEngineTest {
+
+    // Con esta semilla la lista generada es [40, 81, 11, 45, 5, 70, 74]
+    private static final long FIXED_SEED = 7L;
+
+    private static final Pattern SEED = Pattern.compile("-Dproperty\\.seed=(-?\\d+)");
+    private static final Pattern ORIGINAL = Pattern.compile("Caso original: (.*)");
+    private static final Pattern MINIMAL = Pattern.compile("\\(\\d+ reducciones\\): (.*)");
+
+    private String previousSeed;
+
+    @Before
+    public void setUp() {
+        // La propiedad puede venir de la línea de comandos (build.gradle reenvía property.*)
+        previousSeed = System.getProperty("property.seed");
+        System.clearProperty("property.seed");
+    }
+
+    @After
+    public void tearDown() {
+        if (previousSeed == null) {
+            System.clearProperty("property.seed");
+        } else {
+            System.setProperty("property.seed", previousSeed);
+        }
+    }
+
+    /**
+     * Con una semilla fija, "todos ≤ 50" se reduce a la lista mínima que falla: [51]
+     */
+    @Test
+    public void testShrinksToMinimalCounterexample() {
+        System.setProperty("property.seed", String.valueOf(FIXED_SEED));
+
+        String message = failureOf(Gen.listOf(Gen.ints(0, 100), 1, 10));
+
+        assertEquals("[40, 81, 11, 45, 5, 70, 74]", group(ORIGINAL, message));
+        assertEquals("[51]", group(MINIMAL, message));
+        assertEquals(String.valueOf(FIXED_SEED), group(SEED, message));
+    }
+
+    /**
+     * La semilla que informa una falla repite exactamente el mismo caso
+     */
+    @Test
+    public void testReportedSeedReplaysSameCase() {
+        // Siempre falla, así que el resultado no depende de -Dproperty.trials
+        Gen<List<Integer>> alwaysFailing = Gen.listOf(Gen.ints(51, 100), 1, 10);
+
+        String first = failureOf(alwaysFailing);
+        String seed = group(SEED, first);
+
+        System.setProperty("property.seed", seed);
+        String replay = failureOf(alwaysFailing);
+
+        assertEquals(seed, group(SEED, replay));
+        assertEquals(group(ORIGINAL, first), group(ORIGINAL, replay));
+        assertEquals("[51]", group(MINIMAL, replay));
+    }
+
+    /**
+     * Una falla se reporta aunque al volver a generar o evaluar el caso ya no falle
+     * (generadores no deterministas, como los de datos únicos)
+     */
+    @Test
+    public void testFailureIsKeptWithNonDeterministicGenerator() {
+        AtomicInteger counter = new AtomicInteger();
+
+        try {
+            Property.forAll("solo pares", Gen.of(counter::incrementAndGet)).trials(1).check(value ->
+                    assertTrue("Valor impar: " + value, value % 2 == 0));
+        } catch (AssertionError e) {
+            assertEquals("1", group(ORIGINAL, e.getMessage()));
+            assertEquals("1", group(MINIMAL, e.getMessage()));
+            assertEquals("Valor impar: 1", e.getCause().getMessage());
+            return;
+        }
+        fail("La falla del primer caso no debe perderse");
+    }
+
+    /**
+     * Verifica "todos ≤ 50" y retorna el mensaje de la falla
+     */
+    private static String failureOf(Gen<List<Integer>> lists) {
+        try {
+            Property.forAll("todos ≤ 50", lists).trials(100).check(values -> {
+                for (int value : values) {
+                    assertTrue("Valor mayor que 50: " + value, value <= 50);
+                }
+            });
+        } catch (AssertionError e) {
+            return e.getMessage();
+        }
+        fail("La propiedad debía fallar");
+        return null;
+    }
+
+    private static String group(Pattern pattern, String message) {
+        Matcher matcher = pattern.matcher(message);
+        assertTrue("El reporte debe incluir " + pattern + ":\n" + message, matcher.find());
+        return matcher.group(1);
+    }
+}
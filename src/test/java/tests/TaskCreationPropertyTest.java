@@ -8,8 +8,10 @@ import pages.HomePage;
 import pages.CreateTaskModal;
 import pages.LoginPage;
 import utils.DriverManager;
+import utils.Gen;
+import utils.Property;
 
-import java.util.Random;
+import java.util.Arrays;
 
 import static org.junit.Assert.assertTrue;
 
@@ -24,15 +26,13 @@ public class TaskCreationPropertyTest {
     private CreateTaskModal createTaskModal;
     private LoginPage loginPage;
     private WebDriver driver;
-    private Random random;
 
     @Before
     public void setUp() {
-        // Usar el DriverManager existente para obtener la instancia del driver
-        driver = DriverManager.getDriver();
+        // Referencia perezosa: el navegador solo se inicia si la prueba lo usa
+        driver = DriverManager.getLazyDriver();
         loginPage = new LoginPage(driver);
         homePage = new HomePage(driver);
-        random = new Random();
         
         // Hacer login antes de cada prueba
         loginPage.open();
@@ -58,47 +58,41 @@ public class TaskCreationPropertyTest {
      */
     @Test
     public void testTaskCreationSuccessProperty() {
-        // Ejecutar prueba de propiedad con 1 iteración para depuración
-        for (int iteration = 0; iteration < 1; iteration++) {
-            try {
-                // Generar datos de tarea válidos aleatorios para esta iteración
-                TaskData taskData = generateValidTaskData();
-                
-                // Obtener conteo inicial de tareas
-                int initialCount = homePage.getTaskCount();
-                
-                // Abrir modal de creación de tarea
-                homePage.clickNuevaTarea();
-                createTaskModal = new CreateTaskModal(driver);
-                
-                // Llenar formulario con datos válidos
-                createTaskModal.fillTitle(taskData.getTitle());
-                createTaskModal.fillDescription(taskData.getDescription());
-                createTaskModal.fillPriority(taskData.getPriority());
-                // CRÍTICO: Llenar el campo de fecha que descubrimos que faltaba
-                createTaskModal.fillDateWithDefault();
-                
-                // Enviar el formulario
-                createTaskModal.submit();
-                
-                // Probar la propiedad: la creación de tarea válida debe tener éxito
-                assertTrue("Iteración " + iteration + ": La creación de tarea debe ser exitosa para la tarea: " + taskData.getTitle(), 
-                           createTaskModal.isTaskCreationSuccessful());
-                
-                // Verificar que la tarea aparece en la lista y el conteo aumentó
-                assertTrue("Iteración " + iteration + ": La tarea debe aparecer en la lista y el conteo debe aumentar para la tarea: " + taskData.getTitle(), 
-                           homePage.isTaskCreationSuccessful(initialCount, taskData.getTitle()));
-                
-                // Verificar que el conteo de tareas aumentó exactamente en uno
-                int currentCount = homePage.getTaskCount();
-                assertTrue("Iteración " + iteration + ": El conteo de tareas debe aumentar en uno. Esperado: " + (initialCount + 1) + ", Actual: " + currentCount, 
-                           currentCount == initialCount + 1);
-                
-            } catch (Exception e) {
-                // Si hay una excepción, fallar la prueba con contexto
-                throw new AssertionError("Iteración " + iteration + " falló con excepción: " + e.getMessage(), e);
-            }
-        }
+        // Ejecutar prueba de propiedad con 1 prueba para depuración; el sufijo de tiempo se agrega
+        // en cada evaluación para que los casos reducidos no repitan el título ya creado
+        Property.forAll("creación de tarea válida", validTaskData()).trials(1).maxShrinks(5).check(candidate -> {
+            TaskData taskData = candidate.withTitle(candidate.getTitle() + " " + System.currentTimeMillis());
+            
+            // Obtener conteo inicial de tareas
+            int initialCount = homePage.getTaskCount();
+            
+            // Abrir modal de creación de tarea
+            homePage.clickNuevaTarea();
+            createTaskModal = new CreateTaskModal(driver);
+            
+            // Llenar formulario con datos válidos
+            createTaskModal.fillTitle(taskData.getTitle());
+            createTaskModal.fillDescription(taskData.getDescription());
+            createTaskModal.fillPriority(taskData.getPriority());
+            // CRÍTICO: Llenar el campo de fecha que descubrimos que faltaba
+            createTaskModal.fillDateWithDefault();
+            
+            // Enviar el formulario
+            createTaskModal.submit();
+            
+            // Probar la propiedad: la creación de tarea válida debe tener éxito
+            assertTrue("La creación de tarea debe ser exitosa para la tarea: " + taskData, 
+                       createTaskModal.isTaskCreationSuccessful());
+            
+            // Verificar que la tarea aparece en la lista y el conteo aumentó
+            assertTrue("La tarea debe aparecer en la lista y el conteo debe aumentar para la tarea: " + taskData, 
+                       homePage.isTaskCreationSuccessful(initialCount, taskData.getTitle()));
+            
+            // Verificar que el conteo de tareas aumentó exactamente en uno
+            int currentCount = homePage.getTaskCount();
+            assertTrue("El conteo de tareas debe aumentar en uno. Esperado: " + (initialCount + 1) + ", Actual: " + currentCount, 
+                       currentCount == initialCount + 1);
+        });
     }
 
     /**
@@ -110,55 +104,46 @@ public class TaskCreationPropertyTest {
      */
     @Test
     public void testTaskCreationErrorHandlingProperty() {
-        // Run property test with 20 iterations for error scenarios
-        for (int iteration = 0; iteration < 20; iteration++) {
-            try {
-                // Generate random invalid task data for this iteration
-                TaskData invalidTaskData = generateInvalidTaskData();
-                
-                // Get initial task count
-                int initialCount = homePage.getTaskCount();
-                
-                // Open task creation modal
-                homePage.clickNuevaTarea();
-                createTaskModal = new CreateTaskModal(driver);
-                
-                // Fill form with invalid data
-                createTaskModal.fillTitle(invalidTaskData.getTitle());
-                createTaskModal.fillDescription(invalidTaskData.getDescription());
-                createTaskModal.fillPriority(invalidTaskData.getPriority());
-                // Still fill the date field for negative test
-                createTaskModal.fillDateWithDefault();
-                
-                // Submit the form
-                createTaskModal.submit();
-                
-                // Test the property: invalid task creation should fail
-                boolean creationFailed = createTaskModal.isModalStillVisible();
-                boolean hasError = createTaskModal.hasTaskCreationError();
-                
-                assertTrue("Iteration " + iteration + ": Invalid task creation should fail or show error for task: " + invalidTaskData.getTitle(), 
-                           creationFailed || hasError);
-                
-                // Verify task count did not increase
-                int currentCount = homePage.getTaskCount();
-                assertTrue("Iteration " + iteration + ": Task count should not increase for invalid data. Expected: " + initialCount + ", Actual: " + currentCount, 
-                           currentCount == initialCount);
-                
-            } catch (Exception e) {
-                // If there's an exception, fail the test with context
-                throw new AssertionError("Iteration " + iteration + " failed with exception: " + e.getMessage(), e);
-            }
-        }
+        // 20 pruebas secuenciales (usan el navegador); al fallar se reduce a los datos más simples
+        Property.forAll("creación de tarea inválida falla", invalidTaskData()).trials(20).maxShrinks(10).check(invalidTaskData -> {
+            // Get initial task count
+            int initialCount = homePage.getTaskCount();
+            
+            // Open task creation modal
+            homePage.clickNuevaTarea();
+            createTaskModal = new CreateTaskModal(driver);
+            
+            // Fill form with invalid data
+            createTaskModal.fillTitle(invalidTaskData.getTitle());
+            createTaskModal.fillDescription(invalidTaskData.getDescription());
+            createTaskModal.fillPriority(invalidTaskData.getPriority());
+            // Still fill the date field for negative test
+            createTaskModal.fillDateWithDefault();
+            
+            // Submit the form
+            createTaskModal.submit();
+            
+            // Test the property: invalid task creation should fail
+            boolean creationFailed = createTaskModal.isModalStillVisible();
+            boolean hasError = createTaskModal.hasTaskCreationError();
+            
+            assertTrue("Invalid task creation should fail or show error for task: " + invalidTaskData, 
+                       creationFailed || hasError);
+            
+            // Verify task count did not increase
+            int currentCount = homePage.getTaskCount();
+            assertTrue("Task count should not increase for invalid data. Expected: " + initialCount + ", Actual: " + currentCount, 
+                       currentCount == initialCount);
+        });
     }
 
     /**
-     * Generates valid task data for property testing
+     * Generates valid task data for property testing (the title gets its time suffix when used)
      */
-    private TaskData generateValidTaskData() {
-        String[] titlePrefixes = {"Tarea", "Proyecto", "Actividad", "Trabajo", "Asignación", "Item", "Todo", "Desarrollo"};
-        String[] titleSuffixes = {"Importante", "Urgente", "Pendiente", "Nueva", "Crítica", "Automática", "Manual", "Especial"};
-        String[] descriptions = {
+    private static Gen<TaskData> validTaskData() {
+        Gen<String> titlePrefixes = Gen.oneOf("Tarea", "Proyecto", "Actividad", "Trabajo", "Asignación", "Item", "Todo", "Desarrollo");
+        Gen<String> titleSuffixes = Gen.oneOf("Importante", "Urgente", "Pendiente", "Nueva", "Crítica", "Automática", "Manual", "Especial");
+        Gen<String> descriptions = Gen.oneOf(
             "Descripción detallada de la tarea",
             "Trabajo importante que debe completarse",
             "Actividad programada para el proyecto",
@@ -167,33 +152,32 @@ public class TaskCreationPropertyTest {
             "Revisión y validación de procesos",
             "Implementación de mejoras",
             "Análisis y documentación"
-        };
-        
-        String titlePrefix = titlePrefixes[random.nextInt(titlePrefixes.length)];
-        String titleSuffix = titleSuffixes[random.nextInt(titleSuffixes.length)];
-        String title = titlePrefix + " " + titleSuffix + " " + System.currentTimeMillis();
-        
-        String description = descriptions[random.nextInt(descriptions.length)] + " - " + random.nextInt(1000);
-        int priority = random.nextInt(5) + 1; // Priority 1-5
+        );
         
-        return new TaskData(title, description, priority);
+        return random -> Gen.combine(Arrays.asList(
+                titlePrefixes.sample(random),
+                titleSuffixes.sample(random),
+                descriptions.sample(random),
+                Gen.ints(0, 999).sample(random),
+                Gen.priorities().sample(random)), parts -> new TaskData(
+                        parts.get(0) + " " + parts.get(1),
+                        parts.get(2) + " - " + parts.get(3),
+                        (Integer) parts.get(4)));
     }
 
     /**
      * Generates invalid task data for property testing
      */
-    private TaskData generateInvalidTaskData() {
-        String[] invalidTitles = {"", " ", "   ", null};
-        String[] validDescriptions = {"Descripción válida", "Descripción de prueba"};
-        
+    private static Gen<TaskData> invalidTaskData() {
         // Always use empty/invalid title (main validation rule)
-        String title = invalidTitles[random.nextInt(invalidTitles.length)];
-        if (title == null) title = "";
-        
-        String description = validDescriptions[random.nextInt(validDescriptions.length)];
-        int priority = random.nextInt(5) + 1;
+        Gen<String> invalidTitles = Gen.oneOf("", " ", "   ");
+        Gen<String> validDescriptions = Gen.oneOf("Descripción válida", "Descripción de prueba");
         
-        return new TaskData(title, description, priority);
+        return random -> Gen.combine(Arrays.asList(
+                invalidTitles.sample(random),
+                validDescriptions.sample(random),
+                Gen.priorities().sample(random)), parts -> new TaskData(
+                        (String) parts.get(0), (String) parts.get(1), (Integer) parts.get(2)));
     }
 
     /**
@@ -213,6 +197,13 @@ public class TaskCreationPropertyTest {
         public String getTitle() { return title; }
         public String getDescription() { return description; }
         public int getPriority() { return priority; }
+
+        public TaskData withTitle(String title) {
+            return new TaskData(title, description, priority);
+        }
+
+        @Override
+        public String toString() { return "'" + title + "' (" + description + ", prioridad " + priority + ")"; }
     }
 
     /**
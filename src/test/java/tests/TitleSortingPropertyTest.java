@@ -6,11 +6,12 @@ import org.junit.After;
 import org.openqa.selenium.WebDriver;
 import pages.TasksPage;
 import utils.DriverManager;
+import utils.Gen;
+import utils.Property;
 
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Random;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
@@ -24,14 +25,15 @@ public class TitleSortingPropertyTest {
 
     private TasksPage tasksPage;
     private WebDriver driver;
-    private Random random;
+
+    // Listas de 1 a 10 títulos con mayúsculas y minúsculas mezcladas
+    private static final Gen<List<String>> TASK_TITLE_LISTS = Gen.listOf(Gen.taskTitles(), 1, 10);
 
     @Before
     public void setUp() {
-        // Usar el DriverManager existente para obtener la instancia del driver
-        driver = DriverManager.getDriver();
+        // Referencia perezosa: el navegador solo se inicia si la prueba lo usa
+        driver = DriverManager.getLazyDriver();
         tasksPage = new TasksPage(driver);
-        random = new Random();
     }
 
     @After
@@ -50,49 +52,26 @@ public class TitleSortingPropertyTest {
      */
     @Test
     public void testTitleSortingProperty() {
-        // Run property test with 100 iterations as specified in design document
-        for (int iteration = 0; iteration < 100; iteration++) {
-            // Generate random task list for this iteration
-            List<String> randomTasks = generateRandomTaskTitles();
-            
+        // 100 pruebas con semilla propia, en paralelo: la propiedad no usa el navegador
+        Property.forAll("ordenamiento por título", TASK_TITLE_LISTS).trials(100).parallel().check(randomTasks -> {
             // Test the property: sorting should produce alphabetical order
             List<String> sortedTasks = new ArrayList<>(randomTasks);
             Collections.sort(sortedTasks, String.CASE_INSENSITIVE_ORDER);
             
             // Verify the sorting property holds
-            assertTrue("Iteration " + iteration + ": Sorted list should be alphabetically ordered", 
+            assertTrue("Sorted list should be alphabetically ordered", 
                        isSortedAlphabetically(sortedTasks));
             
             // Verify sorting preserves all tasks (no loss or addition)
-            assertEquals("Iteration " + iteration + ": Sorting should preserve task count", 
+            assertEquals("Sorting should preserve task count", 
                         randomTasks.size(), sortedTasks.size());
             
             // Verify all original tasks are present
             for (String task : randomTasks) {
-                assertTrue("Iteration " + iteration + ": All original tasks should be present after sorting: " + task, 
+                assertTrue("All original tasks should be present after sorting: " + task, 
                           sortedTasks.contains(task));
             }
-        }
-    }
-
-    /**
-     * Generates a random list of task titles for property testing
-     */
-    private List<String> generateRandomTaskTitles() {
-        List<String> tasks = new ArrayList<>();
-        int listSize = random.nextInt(10) + 1; // 1 to 10 tasks
-        
-        String[] taskPrefixes = {"Task", "Project", "Work", "Assignment", "Activity", "Job", "Item", "Todo"};
-        String[] taskSuffixes = {"Alpha", "Beta", "Gamma", "Delta", "Epsilon", "Zeta", "Eta", "Theta"};
-        
-        for (int i = 0; i < listSize; i++) {
-            String prefix = taskPrefixes[random.nextInt(taskPrefixes.length)];
-            String suffix = taskSuffixes[random.nextInt(taskSuffixes.length)];
-            String randomCase = random.nextBoolean() ? prefix.toLowerCase() : prefix.toUpperCase();
-            tasks.add(randomCase + " " + suffix + " " + random.nextInt(1000));
-        }
-        
-        return tasks;
+        });
     }
 
     /**
@@ -112,28 +91,26 @@ public class TitleSortingPropertyTest {
      */
     @Test
     public void testSortingPreservesAllTasks() {
-        for (int iteration = 0; iteration < 100; iteration++) {
-            List<String> originalTasks = generateRandomTaskTitles();
-            
+        Property.forAll("ordenar conserva los títulos", TASK_TITLE_LISTS).trials(100).parallel().check(originalTasks -> {
             List<String> sortedTasks = new ArrayList<>(originalTasks);
             Collections.sort(sortedTasks, String.CASE_INSENSITIVE_ORDER);
             
             // Verify same number of tasks
-            assertEquals("Iteration " + iteration + ": Sorting should preserve task count", 
+            assertEquals("Sorting should preserve task count", 
                         originalTasks.size(), sortedTasks.size());
             
             // Verify all original tasks are present
             for (String task : originalTasks) {
-                assertTrue("Iteration " + iteration + ": All original tasks should be present after sorting: " + task, 
+                assertTrue("All original tasks should be present after sorting: " + task, 
                           sortedTasks.contains(task));
             }
             
             // Verify no new tasks were added
             for (String task : sortedTasks) {
-                assertTrue("Iteration " + iteration + ": No new tasks should be added during sorting: " + task, 
+                assertTrue("No new tasks should be added during sorting: " + task, 
                           originalTasks.contains(task));
             }
-        }
+        });
     }
 
     /**
@@ -147,11 +124,8 @@ public class TitleSortingPropertyTest {
                    isSortedAlphabetically(emptyList));
         
         // Test single item lists with various cases
-        for (int i = 0; i < 20; i++) {
-            List<String> singleItem = new ArrayList<>();
-            singleItem.add("Task " + random.nextInt(1000));
+        Property.forAll("lista de un título", Gen.listOf(Gen.taskTitles(), 1, 1)).trials(20).check(singleItem ->
             assertTrue("Single item list should be considered sorted", 
-                       isSortedAlphabetically(singleItem));
-        }
+                       isSortedAlphabetically(singleItem)));
     }
 }
\ No newline at end of file
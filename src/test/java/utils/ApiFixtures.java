@@ -0,0 +1,254 @@
+package utils;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+import org.openqa.selenium.json.Json;
+
+/**
+ * Datos de prueba creados directamente por la API HTTP de la aplicación, sin pasar
+ * por la UI.
+ *
+ * Crear una tarea por el modal "Nueva Tarea" toma varios segundos; por la API son
+ * unos milisegundos, y las peticiones se envían de forma concurrente (hasta
+ * -Dapp.api.concurrency, por defecto 16, en vuelo a la vez), así un escenario
+ * puede sembrar cientos de tareas conocidas antes de abrir la tabla.
+ *
+ * Usa las mismas rutas que la SPA: POST /api/auth/login (cookie de sesión),
+ * POST /api/users, GET y POST /api/tasks y DELETE /api/tasks/{id}, bajo
+ * -Dapp.api.path (por defecto "/api"). Cada instancia tiene su propia sesión.
+ */
+public class ApiFixtures {
+
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+
+    private final Json json = new Json();
+    private final HttpClient client;
+    private final String apiUrl;
+    private final Semaphore inFlight;
+
+    public ApiFixtures() {
+        this(AppConfig.url(System.getProperty("app.api.path", "/api")));
+    }
+
+    public ApiFixtures(String apiUrl) {
+        this.apiUrl = apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.inFlight = new Semaphore(Math.max(1, Integer.getInteger("app.api.concurrency", 16)));
+    }
+
+    /**
+     * Inicia sesión por la API; la cookie queda en esta instancia para las llamadas siguientes
+     */
+    public ApiFixtures login(String email, String password) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("email", email);
+        body.put("password", password);
+        HttpResponse<String> response = send("POST", "/auth/login", body).join();
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login por API rechazado para " + email + " (HTTP " + response.statusCode() + ")");
+        }
+        return this;
+    }
+
+    // ---------- Tareas ----------
+
+    /**
+     * Crea todas las tareas del lote de forma concurrente y retorna los ids de las
+     * tareas creadas, en el orden del lote. Las fechas de vencimiento se reparten
+     * en los próximos 90 días para que el orden por fecha tenga algo que validar.
+     * Si alguna falla lanza {@link PartialFailureException} con los ids de las que
+     * sí se crearon, para que quien llama pueda eliminarlas.
+     */
+    public List<Long> createTasks(TaskBatch batch) {
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        List<CompletableFuture<HttpResponse<String>>> requests = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("title", batch.getTitles()[i]);
+            TestDataGenerator.markUsed(batch.getTitles()[i]);
+            body.put("description", batch.getDescriptions()[i]);
+            body.put("priority", String.valueOf(batch.getPriorities()[i]));
+            body.put("dueDate", DUE_DATE_FORMAT.format(base.plusDays(1 + (i * 37L) % 90).plusMinutes(i % 60)));
+            requests.add(send("POST", "/tasks", body));
+        }
+
+        // Se esperan todas las peticiones aunque alguna falle, para conocer las que sí crearon su tarea
+        List<String> created = new ArrayList<>(batch.size());
+        String firstError = null;
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                int status = requests.get(i).join().statusCode();
+                if (status / 100 == 2) {
+                    created.add(batch.getTitles()[i]);
+                } else if (firstError == null) {
+                    firstError = "HTTP " + status;
+                }
+            } catch (CompletionException e) {
+                if (firstError == null) {
+                    firstError = String.valueOf(e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                }
+            }
+        }
+        if (created.isEmpty() && firstError != null) {
+            throw new IllegalStateException("Ninguna de las " + batch.size() + " tareas se pudo crear por API: " + firstError);
+        }
+
+        // La API no retorna el id al crear: se resuelve con una sola lectura de la lista
+        Map<String, Long> idsByTitle = new LinkedHashMap<>();
+        for (Map<String, Object> task : listTasks()) {
+            idsByTitle.put(String.valueOf(task.get("title")), toLong(task.get("id")));
+        }
+        List<Long> ids = new ArrayList<>(created.size());
+        for (String title : created) {
+            Long id = idsByTitle.get(title);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (firstError != null) {
+            throw new PartialFailureException((batch.size() - created.size()) + " de " + batch.size()
+                    + " tareas no se pudieron crear por API: " + firstError, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Tareas del usuario con sesión, como las entrega la API
+     */
+    public List<Map<String, Object>> listTasks() {
+        HttpResponse<String> response = send("GET", "/tasks", null).join();
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("No se pudo listar las tareas por API (HTTP " + response.statusCode() + ")");
+        }
+        List<Map<String, Object>> tasks = json.toType(response.body(), Json.LIST_OF_MAPS_TYPE);
+        return tasks != null ? tasks : new ArrayList<>();
+    }
+
+    /**
+     * Elimina las tareas indicadas de forma concurrente; retorna cuántas se eliminaron
+     */
+    public int deleteTasks(Collection<Long> ids) {
+        List<CompletableFuture<HttpResponse<String>>> requests = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            requests.add(send("DELETE", "/tasks/" + id, null));
+        }
+        int deleted = 0;
+        for (CompletableFuture<HttpResponse<String>> request : requests) {
+            if (request.join().statusCode() / 100 == 2) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    // ---------- Usuarios ----------
+
+    /**
+     * Registra todos los usuarios del lote de forma concurrente; retorna los emails rechazados
+     */
+    public Set<String> registerUsers(UserBatch batch) {
+        List<CompletableFuture<HttpResponse<String>>> requests = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("firstName", batch.getFirstNames()[i]);
+            body.put("lastName", batch.getLastNames()[i]);
+            body.put("email", batch.getEmails()[i]);
+            TestDataGenerator.markUsed(batch.getEmails()[i]);
+            body.put("password", batch.getPasswords()[i]);
+            body.put("repeatPassword", batch.getPasswords()[i]);
+            requests.add(send("POST", "/users", body));
+        }
+        Set<String> rejected = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i).join().statusCode() / 100 != 2) {
+                rejected.add(batch.getEmails()[i]);
+            }
+        }
+        return rejected;
+    }
+
+    // ---------- HTTP ----------
+
+    /**
+     * Envía la petición sin bloquear, respetando el máximo de peticiones en vuelo
+     */
+    private CompletableFuture<HttpResponse<String>> send(String method, String path, Object body) {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(json.toJson(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, publisher)
+                .build();
+
+        inFlight.acquireUninterruptibly();
+        try {
+            return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> inFlight.release())
+                    .exceptionally(error -> {
+                        throw new CompletionException(new IOException(
+                                method + " " + path + " falló: " + error.getMessage(), error));
+                    });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Falla de una creación por lotes en la que parte del lote sí se creó
+     */
+    public static class PartialFailureException extends IllegalStateException {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Long> createdIds;
+
+        public PartialFailureException(String message, List<Long> createdIds) {
+            super(message);
+            this.createdIds = createdIds;
+        }
+
+        /**
+         * Ids de lo que alcanzó a crearse y hay que eliminar
+         */
+        public List<Long> getCreatedIds() {
+            return createdIds;
+        }
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return value == null ? null : Long.valueOf(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package utils;
+
+import server.SentraStubServer;
+
+/**
+ * Configuración del sistema bajo prueba.
+ *
+ * La URL base de Sentra Tasks se puede cambiar con -Dapp.baseUrl sin tocar
+ * los Page Objects. Con -Dsentra.stub=true (y sin app.baseUrl) se usa el
+ * servidor de reemplazo embebido, iniciado en un puerto libre.
+ */
+public class AppConfig {
+
+    private static final String DEFAULT_BASE_URL = "http://192.168.80.43:10100";
+
+    /**
+     * URL base de la aplicación, sin barra final
+     */
+    public static String getBaseUrl() {
+        String configured = System.getProperty("app.baseUrl");
+        if (isUsingStub()) {
+            return SentraStubServer.getShared().getBaseUrl();
+        }
+        String url = (configured != null ? configured : DEFAULT_BASE_URL).trim();
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * Nombre del ambiente bajo prueba, apto para nombres de archivo (ej: "192.168.80.43_10100").
+     * No inicia el servidor de reemplazo: con -Dsentra.stub=true el ambiente es "stub".
+     */
+    public static String getEnvironmentName() {
+        String configured = System.getProperty("app.baseUrl");
+        if (configured == null && isStubEnabled()) {
+            return "stub";
+        }
+        String url = (configured != null ? configured : DEFAULT_BASE_URL).trim().replaceFirst("^[a-zA-Z]+://", "");
+        String name = url.replaceAll("/+$", "").replaceAll("[^A-Za-z0-9.-]", "_");
+        return name.isEmpty() ? "default" : name;
+    }
+
+    public static boolean isStubEnabled() {
+        return Boolean.getBoolean("sentra.stub");
+    }
+
+    /**
+     * Indica si las pruebas corren contra el servidor de reemplazo (stub activado y sin app.baseUrl)
+     */
+    public static boolean isUsingStub() {
+        return isStubEnabled() && System.getProperty("app.baseUrl") == null;
+    }
+
+    /**
+     * Construye una URL absoluta a partir de una ruta de la aplicación (ej: "/home")
+     */
+    public static String url(String path) {
+        return getBaseUrl() + (path.startsWith("/") ? path : "/" + path);
+    }
+}
@@ -0,0 +1,169 @@
+package utils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+/**
+ * Fábrica de navegadores configurada por un {@link DriverProfile}.
+ *
+ * Traduce el perfil a opciones de Chrome o Firefox (headless, tamaño de ventana,
+ * estrategia de carga, extensiones, GPU, throttling en segundo plano), aplica la
+ * lista de recursos bloqueados y registra el tiempo de arranque de cada sesión.
+ */
+public class DriverFactory {
+
+    private final DriverProfile profile;
+
+    // Tiempo de arranque por sesión; claves débiles para no retener navegadores cerrados
+    private static final Map<WebDriver, Long> startupMillis = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong startedSessions = new AtomicLong();
+    private static final AtomicLong totalStartupMillis = new AtomicLong();
+
+    public DriverFactory(DriverProfile profile) {
+        this.profile = profile;
+    }
+
+    public DriverProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Inicia un navegador nuevo según el perfil
+     */
+    public WebDriver create() {
+        long start = System.nanoTime();
+
+        WebDriver driver;
+        if (profile.getEngine().equals("firefox")) {
+            driver = new FirefoxDriver(firefoxOptions());
+        } else if (profile.getEngine().equals("chrome")) {
+            String chromeDriverPath = profile.getChromeDriverPath();
+            if (!chromeDriverPath.isEmpty()) {
+                System.setProperty("webdriver.chrome.driver", chromeDriverPath);
+            }
+            driver = new ChromeDriver(chromeOptions());
+        } else {
+            throw new IllegalArgumentException("Motor de navegador no soportado: " + profile.getEngine());
+        }
+
+        // En headless no existe ventana que maximizar; el tamaño se fija por argumentos
+        if (profile.isMaximized() && !profile.isHeadless()) {
+            driver.manage().window().maximize();
+        } else if (!profile.isMaximized() && !profile.isHeadless()) {
+            driver.manage().window().setSize(new Dimension(profile.getWindowWidth(), profile.getWindowHeight()));
+        }
+
+        // Antes de la primera navegación, para que también aplique a LoginPage.open()
+        RequestBlocker.install(driver, profile.getBlockedUrls());
+
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        startupMillis.put(driver, elapsed);
+        startedSessions.incrementAndGet();
+        totalStartupMillis.addAndGet(elapsed);
+        System.out.println("Browser startup: " + profile + " in " + elapsed + " ms");
+        return driver;
+    }
+
+    /**
+     * Tiempo de arranque registrado para una sesión, o -1 si no fue creada por esta fábrica
+     */
+    public static long getStartupMillis(WebDriver driver) {
+        Long elapsed = startupMillis.get(driver);
+        return elapsed != null ? elapsed : -1;
+    }
+
+    public static long getStartedSessions() {
+        return startedSessions.get();
+    }
+
+    public static long getAverageStartupMillis() {
+        long sessions = startedSessions.get();
+        return sessions == 0 ? 0 : totalStartupMillis.get() / sessions;
+    }
+
+    private ChromeOptions chromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy());
+
+        String headless = profile.getHeadlessMode();
+        if (headless.equals("new")) {
+            options.addArguments("--headless=new");
+        } else if (headless.equals("old")) {
+            options.addArguments("--headless");
+        }
+
+        if (profile.isMaximized()) {
+            if (profile.isHeadless()) {
+                options.addArguments("--window-size=1920,1080");
+            } else {
+                options.addArguments("--start-maximized");
+            }
+        } else {
+            options.addArguments("--window-size=" + profile.getWindowWidth() + "," + profile.getWindowHeight());
+        }
+
+        if (profile.isExtensionsDisabled()) {
+            options.addArguments("--disable-extensions");
+        }
+        if (profile.isGpuDisabled()) {
+            options.addArguments("--disable-gpu");
+        }
+        if (profile.isBackgroundThrottlingDisabled()) {
+            options.addArguments(
+                "--disable-background-timer-throttling",
+                "--disable-backgrounding-occluded-windows",
+                "--disable-renderer-backgrounding"
+            );
+        }
+        options.addArguments(profile.getExtraArguments());
+        return options;
+    }
+
+    private FirefoxOptions firefoxOptions() {
+        FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(pageLoadStrategy());
+
+        if (profile.isHeadless()) {
+            options.addArguments("-headless");
+        }
+        if (!profile.isMaximized()) {
+            options.addArguments("--width=" + profile.getWindowWidth(), "--height=" + profile.getWindowHeight());
+        }
+        if (profile.isExtensionsDisabled()) {
+            options.addPreference("extensions.enabledScopes", 0);
+        }
+        if (profile.isGpuDisabled()) {
+            options.addPreference("layers.acceleration.disabled", true);
+        }
+        if (profile.isBackgroundThrottlingDisabled()) {
+            options.addPreference("dom.min_background_timeout_value", 0);
+        }
+        for (String argument : profile.getExtraArguments()) {
+            options.addArguments(argument);
+        }
+        return options;
+    }
+
+    private PageLoadStrategy pageLoadStrategy() {
+        switch (profile.getPageLoadStrategy()) {
+            case "eager":
+                return PageLoadStrategy.EAGER;
+            case "none":
+                return PageLoadStrategy.NONE;
+            case "normal":
+                return PageLoadStrategy.NORMAL;
+            default:
+                throw new IllegalArgumentException("Estrategia de carga no soportada: " + profile.getPageLoadStrategy());
+        }
+    }
+}
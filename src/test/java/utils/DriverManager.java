@@ -1,28 +1,95 @@
 package utils;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 
 public class DriverManager {
 
-    private static WebDriver driver;
+    // Un navegador por hilo de trabajo, arrendado desde un pool compartido
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+
+    private static final DriverFactory factory = new DriverFactory(DriverProfile.load());
+
+    private static final DriverPool pool = DriverPool.fromSystemProperties(factory::create);
+
+    private static final AtomicBoolean warmed = new AtomicBoolean();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (pool.getHitCount() + pool.getMissCount() > 0) {
+                System.out.println("Driver pool: " + pool.getStats());
+            }
+            if (RequestBlocker.getBlockedRequests() > 0) {
+                System.out.println("Request blocking: " + RequestBlocker.getStats());
+            }
+            pool.shutdown();
+        }, "driver-pool-shutdown"));
+    }
+
+    // Referencia perezosa compartida: cada llamada se resuelve al navegador del hilo que la hace
+    private static final WebDriver lazyDriver = LazyDriver.create();
 
     public static WebDriver getDriver() {
-        if (driver == null) {
-            System.setProperty(
-                "webdriver.chrome.driver",
-                "C:/WebDriver/chromedriver.exe"
-            );
-            driver = new ChromeDriver();
-            driver.manage().window().maximize();
+        WebDriver current = driver.get();
+        if (current == null) {
+            prewarm();
+            current = pool.lease();
+            driver.set(current);
+        }
+        return current;
+    }
+
+    /**
+     * Empieza a mantener navegadores listos en segundo plano (-Ddriver.pool.warm, por
+     * defecto 1; 0 lo desactiva). Solo tiene efecto la primera vez; se llama al iniciar
+     * la suite de Cucumber y, en las pruebas JUnit, con el primer navegador pedido.
+     */
+    public static void prewarm() {
+        if (warmed.compareAndSet(false, true)) {
+            pool.prewarm(Integer.getInteger("driver.pool.warm", 1));
+        }
+    }
+
+    /**
+     * Referencia al navegador que solo lo inicia en el primer uso real.
+     * Conviene para construir Page Objects en setUp o en steps.
+     */
+    public static WebDriver getLazyDriver() {
+        return lazyDriver;
+    }
+
+    /**
+     * Indica si el hilo actual ya tiene un navegador arrendado
+     */
+    public static boolean isDriverStarted() {
+        return driver.get() != null;
+    }
+
+    /**
+     * Devuelve el navegador del hilo actual al pool, limpio y listo para otro escenario.
+     */
+    public static void releaseDriver() {
+        WebDriver current = driver.get();
+        if (current != null) {
+            driver.remove();
+            pool.release(current);
         }
-        return driver;
     }
 
     public static void quitDriver() {
-        if (driver != null) {
-            driver.quit();
-            driver = null;
+        WebDriver current = driver.get();
+        if (current != null) {
+            driver.remove();
+            pool.invalidate(current);
         }
     }
+
+    public static DriverPool getPool() {
+        return pool;
+    }
+
+    public static DriverProfile getProfile() {
+        return factory.getProfile();
+    }
 }
@@ -0,0 +1,375 @@
+package utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Pool acotado de instancias de WebDriver para ejecución en paralelo.
+ *
+ * Cada hilo de trabajo arrienda un navegador con {@link #lease()} y lo devuelve con
+ * {@link #release(WebDriver)} (se limpia su estado y queda disponible para otro hilo)
+ * o lo descarta con {@link #invalidate(WebDriver)}. Antes de entregar un navegador
+ * reutilizado se verifica que la sesión siga viva, y los navegadores ociosos por más
+ * del tiempo configurado se cierran en segundo plano.
+ *
+ * Con {@link #prewarm(int)} el pool mantiene además K navegadores listos: se inician
+ * en segundo plano y se reponen después de cada arriendo o cierre, así quien pide
+ * uno lo recibe en milisegundos en vez de esperar el arranque de chromedriver y
+ * Chrome. Si no hay ninguno listo pero uno se está iniciando, se espera ese en
+ * lugar de iniciar otro. Se cuentan aciertos (navegador listo) y fallos (arranque
+ * en frío) para ajustar K.
+ */
+public class DriverPool {
+
+    private final Supplier<WebDriver> factory;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long leaseTimeoutMillis;
+
+    // Navegadores disponibles, el más recientemente devuelto primero (protegido por this)
+    private final Deque<IdleDriver> idle = new ArrayDeque<>();
+    // Total de navegadores vivos: arrendados + ociosos + en creación (protegido por this)
+    private int total;
+    // Navegadores iniciándose en segundo plano y cantidad a mantener listos (protegidos por this)
+    private int warming;
+    private int warmTarget;
+    // Hilos esperando dentro de lease() (protegido por this)
+    private int waiting;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private final Set<WebDriver> allDrivers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService evictor;
+    private final ExecutorService warmer;
+    private volatile boolean closed;
+
+    public DriverPool(Supplier<WebDriver> factory, int maxSize, long idleTimeoutMillis, long leaseTimeoutMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("El tamaño máximo del pool debe ser al menos 1: " + maxSize);
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "driver-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1000, Math.min(idleTimeoutMillis, 30_000));
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+
+        this.warmer = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "driver-pool-warmer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Crea un pool configurado mediante propiedades del sistema:
+     * driver.pool.maxSize (por defecto, número de núcleos),
+     * driver.pool.idleTimeoutSeconds (300) y driver.pool.leaseTimeoutSeconds (120).
+     */
+    public static DriverPool fromSystemProperties(Supplier<WebDriver> factory) {
+        int maxSize = Integer.getInteger("driver.pool.maxSize", Runtime.getRuntime().availableProcessors());
+        long idleSeconds = Long.getLong("driver.pool.idleTimeoutSeconds", 300);
+        long leaseSeconds = Long.getLong("driver.pool.leaseTimeoutSeconds", 120);
+        return new DriverPool(factory, maxSize, idleSeconds * 1000, leaseSeconds * 1000);
+    }
+
+    /**
+     * Entrega un navegador sano: reutiliza uno ocioso si existe, crea uno nuevo si
+     * no se alcanzó el máximo, o espera a que otro hilo devuelva el suyo.
+     */
+    public WebDriver lease() {
+        long deadline = System.currentTimeMillis() + leaseTimeoutMillis;
+
+        while (true) {
+            IdleDriver candidate;
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("El pool de navegadores ya fue cerrado");
+                }
+                candidate = idle.pollFirst();
+                if (candidate == null) {
+                    // Si se está iniciando uno en segundo plano y nadie más lo espera, conviene esperarlo
+                    if (total < maxSize && warming <= waiting) {
+                        total++;
+                    } else {
+                        long remaining = deadline - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            throw new IllegalStateException("No hay navegadores disponibles en el pool después de "
+                                    + leaseTimeoutMillis + " ms (máximo " + maxSize + ")");
+                        }
+                        // Esperar a que otro hilo devuelva el suyo o termine de iniciarse uno en segundo plano
+                        waiting++;
+                        try {
+                            wait(remaining);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException("Interrumpido esperando un navegador del pool", e);
+                        } finally {
+                            waiting--;
+                        }
+                        continue;
+                    }
+                }
+            }
+
+            if (candidate == null) {
+                misses.incrementAndGet();
+                WebDriver created = create();
+                refill();
+                return created;
+            }
+            if (isHealthy(candidate.driver)) {
+                hits.incrementAndGet();
+                refill();
+                return candidate.driver;
+            }
+            System.out.println("Warning: Navegador del pool no responde, se descarta y se intenta otro");
+            destroy(candidate.driver);
+        }
+    }
+
+    /**
+     * Mantiene count navegadores listos (sin superar el máximo del pool), iniciándolos
+     * en segundo plano. No bloquea.
+     */
+    public void prewarm(int count) {
+        synchronized (this) {
+            warmTarget = Math.max(0, Math.min(count, maxSize));
+        }
+        refill();
+    }
+
+    /**
+     * Devuelve un navegador al pool después de limpiar cookies y almacenamiento,
+     * para que el siguiente escenario comience sin sesión.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (closed || !reset(driver)) {
+            destroy(driver);
+            return;
+        }
+        synchronized (this) {
+            idle.addFirst(new IdleDriver(driver, System.currentTimeMillis()));
+            notifyAll();
+        }
+    }
+
+    /**
+     * Cierra un navegador arrendado y libera su cupo en el pool.
+     */
+    public void invalidate(WebDriver driver) {
+        if (driver != null) {
+            destroy(driver);
+        }
+    }
+
+    /**
+     * Cierra todos los navegadores, arrendados u ociosos, y detiene la expulsión.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            closed = true;
+            idle.clear();
+            notifyAll();
+        }
+        evictor.shutdownNow();
+        warmer.shutdownNow();
+        for (WebDriver driver : new ArrayList<>(allDrivers)) {
+            destroy(driver);
+        }
+    }
+
+    public synchronized int getTotalCount() {
+        return total;
+    }
+
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Arriendos atendidos con un navegador ya iniciado
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Arriendos que tuvieron que iniciar un navegador en frío
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Resumen de uso: arriendos, aciertos y fallos
+     */
+    public String getStats() {
+        long hitCount = hits.get();
+        long leases = hitCount + misses.get();
+        return String.format(Locale.ROOT, "%d leases, %d hits, %d misses (%.0f%% hit rate), %d warm target",
+                leases, hitCount, misses.get(), leases == 0 ? 0.0 : 100.0 * hitCount / leases, warmTarget);
+    }
+
+    private WebDriver create() {
+        try {
+            WebDriver driver = factory.get();
+            allDrivers.add(driver);
+            return driver;
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                total--;
+                notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    private void destroy(WebDriver driver) {
+        // Solo se descuenta del total si el navegador pertenecía al pool
+        if (!allDrivers.remove(driver)) {
+            return;
+        }
+        NetworkTracker.forget(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.out.println("Warning: Could not quit pooled driver: " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                total--;
+                notifyAll();
+            }
+        }
+        refill();
+    }
+
+    /**
+     * Inicia en segundo plano los navegadores que faltan para tener warmTarget listos
+     */
+    private void refill() {
+        int toStart;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            toStart = Math.min(warmTarget - idle.size() - warming, maxSize - total);
+            if (toStart <= 0) {
+                return;
+            }
+            total += toStart;
+            warming += toStart;
+        }
+        for (int i = 0; i < toStart; i++) {
+            warmer.execute(this::warmOne);
+        }
+    }
+
+    private void warmOne() {
+        WebDriver driver = null;
+        try {
+            driver = factory.get();
+            allDrivers.add(driver);
+        } catch (RuntimeException e) {
+            System.out.println("Warning: Could not pre-start pooled driver: " + e.getMessage());
+        }
+        boolean discard;
+        synchronized (this) {
+            warming--;
+            discard = closed && driver != null;
+            if (driver == null) {
+                total--;
+            } else if (!discard) {
+                idle.addFirst(new IdleDriver(driver, System.currentTimeMillis()));
+            }
+            notifyAll();
+        }
+        if (discard) {
+            destroy(driver);
+        }
+    }
+
+    private void evictIdle() {
+        List<WebDriver> expired = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            // Los navegadores listos que pide warmTarget no se expulsan (desde el más antiguo)
+            Iterator<IdleDriver> it = idle.descendingIterator();
+            while (it.hasNext() && idle.size() > warmTarget) {
+                IdleDriver entry = it.next();
+                if (now - entry.idleSince >= idleTimeoutMillis) {
+                    it.remove();
+                    expired.add(entry.driver);
+                }
+            }
+        }
+        for (WebDriver driver : expired) {
+            destroy(driver);
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            } catch (Exception e) {
+                // Páginas sin almacenamiento accesible (about:blank, data:), se ignora
+            }
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.out.println("Warning: Could not reset pooled driver: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static final class IdleDriver {
+        private final WebDriver driver;
+        private final long idleSince;
+
+        private IdleDriver(WebDriver driver, long idleSince) {
+            this.driver = driver;
+            this.idleSince = idleSince;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Perfil de configuración del navegador.
+ *
+ * Se carga desde src/test/resources/driver-profiles/&lt;perfil&gt;.properties, donde el
+ * perfil se elige con -Ddriver.profile (por defecto "local"). Cualquier propiedad
+ * del sistema que comience con "browser." sobrescribe el valor del archivo, por ejemplo
+ * -Dbrowser.headless=new o -Dbrowser.pageLoadStrategy=eager.
+ */
+public class DriverProfile {
+
+    private static final String DEFAULT_PROFILE = "local";
+
+    private final String name;
+    private final Properties properties;
+
+    private DriverProfile(String name, Properties properties) {
+        this.name = name;
+        this.properties = properties;
+    }
+
+    /**
+     * Carga el perfil indicado por -Ddriver.profile con las sobrescrituras del sistema
+     */
+    public static DriverProfile load() {
+        String name = selectedName();
+        Properties properties = new Properties();
+
+        String resource = "/driver-profiles/" + name + ".properties";
+        try (InputStream in = DriverProfile.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No existe el perfil de navegador: " + resource);
+            }
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo leer el perfil de navegador " + resource, e);
+        }
+
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("browser.")) {
+                properties.setProperty(key, System.getProperty(key));
+            }
+        }
+        return new DriverProfile(name, properties);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Nombre del perfil elegido con -Ddriver.profile, sin cargarlo
+     */
+    public static String selectedName() {
+        return System.getProperty("driver.profile", DEFAULT_PROFILE);
+    }
+
+    /**
+     * Motor del navegador: "chrome" o "firefox"
+     */
+    public String getEngine() {
+        return get("browser.engine", "chrome").toLowerCase();
+    }
+
+    /**
+     * Modo headless: "off", "new" (headless moderno de Chrome) u "old". "true" equivale
+     * a "new" y "false" a "off"; cualquier otro valor es un error, para no abrir un
+     * navegador visible que el resto del perfil trata como headless.
+     */
+    public String getHeadlessMode() {
+        String value = get("browser.headless", "off").trim().toLowerCase();
+        switch (value) {
+            case "true":
+            case "new":
+                return "new";
+            case "false":
+            case "off":
+                return "off";
+            case "old":
+                return "old";
+            default:
+                throw new IllegalArgumentException("Modo headless inválido en el perfil " + name + ": "
+                        + value + " (valores posibles: off, new, old, true, false)");
+        }
+    }
+
+    public boolean isHeadless() {
+        return !getHeadlessMode().equals("off");
+    }
+
+    /**
+     * Tamaño de ventana: "maximized" o "ANCHOxALTO"
+     */
+    public String getWindow() {
+        return get("browser.window", "maximized").toLowerCase();
+    }
+
+    public boolean isMaximized() {
+        return getWindow().equals("maximized");
+    }
+
+    public int getWindowWidth() {
+        return parseWindowPart(0);
+    }
+
+    public int getWindowHeight() {
+        return parseWindowPart(1);
+    }
+
+    /**
+     * Estrategia de carga de página: "normal", "eager" o "none"
+     */
+    public String getPageLoadStrategy() {
+        return get("browser.pageLoadStrategy", "normal").toLowerCase();
+    }
+
+    public boolean isExtensionsDisabled() {
+        return Boolean.parseBoolean(get("browser.disableExtensions", "false"));
+    }
+
+    public boolean isGpuDisabled() {
+        return Boolean.parseBoolean(get("browser.disableGpu", "false"));
+    }
+
+    public boolean isBackgroundThrottlingDisabled() {
+        return Boolean.parseBoolean(get("browser.disableBackgroundThrottling", "false"));
+    }
+
+    public String getChromeDriverPath() {
+        return get("browser.chromedriver.path", "");
+    }
+
+    /**
+     * Argumentos adicionales para el navegador, separados por comas
+     */
+    public List<String> getExtraArguments() {
+        return getList("browser.args");
+    }
+
+    /**
+     * Patrones de URL que el navegador no debe descargar (con * como comodín),
+     * separados por comas; solo se aplican con Chrome o Edge
+     */
+    public List<String> getBlockedUrls() {
+        return getList("browser.blockedUrls");
+    }
+
+    public String get(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    public List<String> getList(String key) {
+        String value = get(key, "");
+        if (value.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.trim().isEmpty()) {
+                values.add(part.trim());
+            }
+        }
+        return values;
+    }
+
+    private int parseWindowPart(int index) {
+        String[] parts = getWindow().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Tamaño de ventana inválido en el perfil " + name + ": " + getWindow());
+        }
+        return Integer.parseInt(parts[index].trim());
+    }
+
+    @Override
+    public String toString() {
+        return name + " [" + getEngine() + ", headless=" + getHeadlessMode() + ", window=" + getWindow()
+                + ", pageLoad=" + getPageLoadStrategy()
+                + (getBlockedUrls().isEmpty() ? "" : ", blocked=" + getBlockedUrls().size() + " patterns") + "]";
+    }
+}
@@ -0,0 +1,226 @@
+package utils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Generador de datos para pruebas basadas en propiedades.
+ *
+ * Cada prueba recibe un Random con semilla propia, así un caso que falla se
+ * puede repetir exactamente (ver {@link Property}). Los generadores se componen
+ * con map, filter y listOf, y todos saben reducir sus valores hacia un
+ * contraejemplo mínimo. Los generadores de dominio usan los mismos datos que
+ * {@link TestDataGenerator}.
+ */
+@FunctionalInterface
+public interface Gen<T> {
+
+    Shrinkable<T> sample(Random random);
+
+    default <R> Gen<R> map(Function<? super T, ? extends R> mapper) {
+        return random -> sample(random).map(mapper);
+    }
+
+    /**
+     * Descarta valores (y reducciones) que no cumplen la condición
+     */
+    default Gen<T> filter(Predicate<? super T> condition) {
+        return random -> {
+            for (int attempt = 0; attempt < 1000; attempt++) {
+                Shrinkable<T> candidate = sample(random);
+                if (condition.test(candidate.getValue())) {
+                    return filtered(candidate, condition);
+                }
+            }
+            throw new IllegalStateException("El filtro del generador descartó 1000 valores seguidos");
+        };
+    }
+
+    // ---------- Generadores básicos ----------
+
+    /**
+     * Enteros en [min, max], que se reducen hacia min
+     */
+    static Gen<Integer> ints(int min, int max) {
+        return random -> shrinkInt(min + random.nextInt(max - min + 1), min);
+    }
+
+    /**
+     * Uno de los valores indicados, que se reduce hacia el primero
+     */
+    @SafeVarargs
+    static <T> Gen<T> oneOf(T... values) {
+        // Copia elemento a elemento: pasar el arreglo varargs a otro método genera advertencias
+        List<T> options = new ArrayList<>(values.length);
+        for (T value : values) {
+            options.add(value);
+        }
+        return ints(0, options.size() - 1).map(options::get);
+    }
+
+    static Gen<Boolean> booleans() {
+        return oneOf(false, true);
+    }
+
+    /**
+     * Listas de largo entre minSize y maxSize; se reducen quitando elementos y luego
+     * reduciendo cada elemento
+     */
+    static <T> Gen<List<T>> listOf(Gen<T> element, int minSize, int maxSize) {
+        return random -> {
+            int size = minSize + random.nextInt(maxSize - minSize + 1);
+            List<Shrinkable<T>> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(element.sample(random));
+            }
+            return shrinkList(items, minSize);
+        };
+    }
+
+    /**
+     * Fechas entre base+minOffset y base+maxOffset días, que se reducen hacia base
+     */
+    static Gen<LocalDate> dates(LocalDate base, int minOffset, int maxOffset) {
+        return random -> {
+            int offset = minOffset + random.nextInt(maxOffset - minOffset + 1);
+            int target = Math.max(minOffset, Math.min(maxOffset, 0));
+            return shrinkInt(offset, target).map(base::plusDays);
+        };
+    }
+
+    /**
+     * Valores que no se reducen (por ejemplo datos únicos de TestDataGenerator)
+     */
+    static <T> Gen<T> of(Supplier<T> supplier) {
+        return random -> Shrinkable.of(supplier.get());
+    }
+
+    // ---------- Generadores de dominio ----------
+
+    static Gen<String> firstNames() {
+        return oneOf(TestDataGenerator.FIRST_NAMES);
+    }
+
+    static Gen<String> lastNames() {
+        return oneOf(TestDataGenerator.LAST_NAMES);
+    }
+
+    /**
+     * Títulos de tarea con las palabras de TestDataGenerator, en mayúsculas o minúsculas
+     * y con un número, para probar ordenamientos sin distinguir mayúsculas
+     */
+    static Gen<String> taskTitles() {
+        Gen<String> prefixes = oneOf(TestDataGenerator.TASK_PREFIXES);
+        Gen<String> subjects = oneOf(TestDataGenerator.TASK_SUBJECTS);
+        Gen<Integer> casing = ints(0, 2);
+        Gen<Integer> numbers = ints(0, 999);
+        return random -> {
+            Shrinkable<String> prefix = prefixes.sample(random);
+            Shrinkable<String> subject = subjects.sample(random);
+            Shrinkable<Integer> caseStyle = casing.sample(random);
+            Shrinkable<Integer> number = numbers.sample(random);
+            return combine(Arrays.asList(prefix, subject, caseStyle, number), parts -> {
+                String word = (String) parts.get(0);
+                int style = (Integer) parts.get(2);
+                String cased = style == 1 ? word.toLowerCase() : style == 2 ? word.toUpperCase() : word;
+                return cased + " " + parts.get(1) + " " + parts.get(3);
+            });
+        };
+    }
+
+    /**
+     * Prioridades válidas (1 a 5)
+     */
+    static Gen<Integer> priorities() {
+        return ints(1, 5);
+    }
+
+    /**
+     * Emails únicos y nunca usados; no se reducen porque cada uno se entrega una sola vez
+     */
+    static Gen<String> uniqueEmails() {
+        return of(TestDataGenerator::generateUniqueEmail);
+    }
+
+    // ---------- Reducción ----------
+
+    /**
+     * Reduce un entero hacia target: primero el objetivo, luego mitades sucesivas de la distancia
+     */
+    static Shrinkable<Integer> shrinkInt(int value, int target) {
+        return new Shrinkable<>(value, () -> {
+            if (value == target) {
+                return Stream.empty();
+            }
+            List<Integer> candidates = new ArrayList<>();
+            long distance = (long) value - target;
+            while (distance != 0) {
+                candidates.add((int) (value - distance));
+                distance /= 2;
+            }
+            return candidates.stream().distinct().map(candidate -> shrinkInt(candidate, target));
+        });
+    }
+
+    /**
+     * Reduce una lista: quitar mitades, luego elementos sueltos, luego reducir cada elemento
+     */
+    static <T> Shrinkable<List<T>> shrinkList(List<Shrinkable<T>> items, int minSize) {
+        List<T> values = new ArrayList<>(items.size());
+        for (Shrinkable<T> item : items) {
+            values.add(item.getValue());
+        }
+        return new Shrinkable<>(Collections.unmodifiableList(values), () -> {
+            Stream<Shrinkable<List<T>>> removals = Stream.empty();
+            for (int chunk = items.size() / 2; chunk >= 1; chunk /= 2) {
+                int size = chunk;
+                removals = Stream.concat(removals, IntStream.iterate(0, start -> start + size)
+                        .limit((items.size() + size - 1) / size)
+                        .filter(start -> items.size() - Math.min(size, items.size() - start) >= minSize)
+                        .mapToObj(start -> {
+                            List<Shrinkable<T>> rest = new ArrayList<>(items.subList(0, start));
+                            rest.addAll(items.subList(Math.min(items.size(), start + size), items.size()));
+                            return shrinkList(rest, minSize);
+                        }));
+            }
+            Stream<Shrinkable<List<T>>> elementShrinks = IntStream.range(0, items.size()).boxed()
+                    .flatMap(index -> items.get(index).shrinks().map(smaller -> {
+                        List<Shrinkable<T>> replaced = new ArrayList<>(items);
+                        replaced.set(index, smaller);
+                        return shrinkList(replaced, minSize);
+                    }));
+            return Stream.concat(removals, elementShrinks);
+        });
+    }
+
+    /**
+     * Combina varios valores reducibles en uno; se reduce reduciendo cada parte por separado
+     */
+    static <R> Shrinkable<R> combine(List<Shrinkable<?>> parts, Function<List<Object>, R> builder) {
+        List<Object> values = new ArrayList<>(parts.size());
+        for (Shrinkable<?> part : parts) {
+            values.add(part.getValue());
+        }
+        return new Shrinkable<>(builder.apply(values), () -> IntStream.range(0, parts.size()).boxed()
+                .flatMap(index -> parts.get(index).shrinks().map(smaller -> {
+                    List<Shrinkable<?>> replaced = new ArrayList<>(parts);
+                    replaced.set(index, smaller);
+                    return combine(replaced, builder);
+                })));
+    }
+
+    private static <T> Shrinkable<T> filtered(Shrinkable<T> value, Predicate<? super T> condition) {
+        return new Shrinkable<>(value.getValue(), () -> value.shrinks()
+                .filter(candidate -> condition.test(candidate.getValue()))
+                .map(candidate -> filtered(candidate, condition)));
+    }
+}
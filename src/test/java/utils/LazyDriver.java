@@ -0,0 +1,64 @@
+package utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Referencia perezosa al navegador del hilo actual.
+ *
+ * Implementa WebDriver (y JavascriptExecutor, TakesScreenshot, HasCapabilities),
+ * pero no arrienda un navegador del pool hasta la primera llamada real. Así las
+ * pruebas que construyen Page Objects sin llegar a usarlos (por ejemplo las
+ * propiedades de ordenamiento que trabajan sobre listas en memoria) terminan sin
+ * abrir Chrome. Cada llamada se delega a DriverManager.getDriver(), por lo que
+ * después de releaseDriver() o quitDriver() la misma referencia arrienda otro
+ * navegador si se vuelve a usar.
+ */
+public final class LazyDriver {
+
+    private static final Class<?>[] INTERFACES = {
+        WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class, HasCapabilities.class, WrapsDriver.class
+    };
+
+    private LazyDriver() {
+    }
+
+    public static WebDriver create() {
+        return (WebDriver) Proxy.newProxyInstance(LazyDriver.class.getClassLoader(), INTERFACES, new Handler());
+    }
+
+    private static class Handler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // Métodos de Object y el acceso al navegador real no deben iniciarlo si no existe
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "LazyDriver[" + (DriverManager.isDriverStarted() ? "started" : "not started") + "]";
+                case "getWrappedDriver":
+                    return DriverManager.getDriver();
+                default:
+                    break;
+            }
+
+            WebDriver target = DriverManager.getDriver();
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
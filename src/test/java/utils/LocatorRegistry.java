@@ -0,0 +1,318 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Registro de localizadores con orden de respaldo aprendido.
+ *
+ * En lugar de probar cada selector alternativo con un findElement (un viaje al
+ * driver por intento, más la espera implícita en cada fallo), todos los candidatos
+ * se envían al navegador en un solo script, que retorna el primero con un elemento
+ * visible. Por cada elemento lógico ("HomePage.newTaskButton") se cuenta qué
+ * candidato ganó, los candidatos se ordenan por esas victorias y el ranking se
+ * guarda entre ejecuciones en target/locator-ranking.properties
+ * (-Dlocator.ranking.file); cada proceso suma sus victorias al archivo bajo lock,
+ * así los shards en paralelo no se pisan. Al terminar se informan los localizadores que nunca
+ * encontraron nada.
+ *
+ * Con {@link #declareTiers} una clave agrupa sus candidatos por nivel de
+ * especificidad: el ranking aprendido solo reordena dentro de cada nivel, así un
+ * respaldo genérico (cualquier botón MUI) nunca queda antes de uno específico
+ * aunque haya ganado muchas veces.
+ */
+public class LocatorRegistry {
+
+    private static final String PROBES = "#probes";
+
+    /**
+     * Evalúa los candidatos en orden y retorna el primero con un elemento visible
+     * (índice -1 si ninguno lo tiene). Además indica qué candidatos encontraron
+     * algún elemento, visible o no.
+     */
+    private static final String PROBE_SCRIPT =
+            "var candidates = arguments[0];"
+            + "var result = { index: -1, element: null, visible: false, matched: [] };"
+            + "function isVisible(el) {"
+            + "  if (!el.getClientRects().length) return false;"
+            + "  var style = window.getComputedStyle(el);"
+            + "  return style.visibility !== 'hidden' && style.display !== 'none';"
+            + "}"
+            + "for (var i = 0; i < candidates.length; i++) {"
+            + "  var using = candidates[i][0], value = candidates[i][1], nodes = [];"
+            + "  try {"
+            + "    if (using === 'xpath') {"
+            + "      var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "      for (var j = 0; j < snapshot.snapshotLength; j++) nodes.push(snapshot.snapshotItem(j));"
+            + "    } else {"
+            + "      nodes = Array.prototype.slice.call(document.querySelectorAll(value));"
+            + "    }"
+            + "  } catch (e) {}"
+            + "  nodes = nodes.filter(function (n) { return n.nodeType === 1; });"
+            + "  result.matched.push(nodes.length > 0);"
+            + "  if (!nodes.length || result.visible) continue;"
+            + "  for (var k = 0; k < nodes.length; k++) {"
+            + "    if (isVisible(nodes[k])) { result.index = i; result.element = nodes[k]; result.visible = true; break; }"
+            + "  }"
+                    + "}"
+            + "return result;";
+
+    // Nivel declarado de cada "clave|localizador"; los no declarados quedan en el nivel 0
+    private static final Map<String, Integer> tiers = new ConcurrentHashMap<>();
+
+    // Estadísticas por "clave|localizador"; la clave "clave|#probes" cuenta las consultas
+    private static final Map<String, LocatorStats> stats = new ConcurrentHashMap<>();
+
+    // Valores que ya están en el archivo (leídos o guardados por este proceso); al guardar solo
+    // se suma la diferencia, así los shards en paralelo no se pisan las victorias
+    private static final Map<String, long[]> persisted = new ConcurrentHashMap<>();
+
+    private static final Path rankingFile =
+            Paths.get(System.getProperty("locator.ranking.file", "target/locator-ranking.properties"));
+
+    static {
+        load();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            save();
+            report();
+        }, "locator-ranking-save"));
+    }
+
+    /**
+     * Busca el elemento lógico identificado por key probando todos los candidatos en una
+     * sola consulta, en el orden aprendido. Retorna null si ningún candidato encuentra un
+     * elemento visible; un elemento oculto no gana ni se retorna.
+     */
+    public static WebElement findFirstVisible(WebDriver driver, String key, By... candidates) {
+        List<By> ranked = rank(key, candidates);
+        statsFor(key, PROBES).matches.incrementAndGet();
+
+        List<List<String>> remote = toRemoteCandidates(ranked);
+        if (remote == null || !(driver instanceof JavascriptExecutor)) {
+            return findSequentially(driver, key, ranked);
+        }
+
+        Object result = ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT, remote);
+        if (!(result instanceof Map)) {
+            return findSequentially(driver, key, ranked);
+        }
+        Map<?, ?> probe = (Map<?, ?>) result;
+
+        Object matched = probe.get("matched");
+        if (matched instanceof List) {
+            List<?> flags = (List<?>) matched;
+            for (int i = 0; i < flags.size() && i < ranked.size(); i++) {
+                if (Boolean.TRUE.equals(flags.get(i))) {
+                    statsFor(key, ranked.get(i)).matches.incrementAndGet();
+                }
+            }
+        }
+
+        Object index = probe.get("index");
+        Object element = probe.get("element");
+        if (!(index instanceof Number) || ((Number) index).intValue() < 0 || !(element instanceof WebElement)) {
+            return null;
+        }
+        statsFor(key, ranked.get(((Number) index).intValue())).wins.incrementAndGet();
+        return (WebElement) element;
+    }
+
+    /**
+     * Declara los niveles de especificidad de los candidatos de una clave, del más
+     * específico al más genérico. Se puede llamar varias veces con los mismos niveles.
+     */
+    public static void declareTiers(String key, By[]... levels) {
+        for (int level = 0; level < levels.length; level++) {
+            for (By by : levels[level]) {
+                tiers.put(key + "|" + by, level);
+            }
+        }
+    }
+
+    /**
+     * Candidatos ordenados por nivel declarado y, dentro de cada nivel, por victorias;
+     * en empate se respeta el orden declarado
+     */
+    public static List<By> rank(String key, By... candidates) {
+        List<By> ranked = new ArrayList<>(Arrays.asList(candidates));
+        ranked.sort(Comparator.comparingInt((By by) -> tierOf(key, by)).thenComparingLong(by -> -winsOf(key, by)));
+        return ranked;
+    }
+
+    /**
+     * Localizadores consultados que nunca encontraron un elemento, agrupados por clave
+     */
+    public static Map<String, List<String>> getNeverMatched() {
+        Map<String, List<String>> neverMatched = new TreeMap<>();
+        for (Map.Entry<String, LocatorStats> entry : stats.entrySet()) {
+            String name = entry.getKey();
+            int separator = name.indexOf('|');
+            String key = name.substring(0, separator);
+            String locator = name.substring(separator + 1);
+            if (locator.equals(PROBES) || entry.getValue().matches.get() > 0) {
+                continue;
+            }
+            LocatorStats probes = stats.get(key + "|" + PROBES);
+            if (probes != null && probes.matches.get() > 0) {
+                neverMatched.computeIfAbsent(key, k -> new ArrayList<>()).add(locator);
+            }
+        }
+        return neverMatched;
+    }
+
+    /**
+     * Suma al ranking guardado (victorias y coincidencias por localizador) lo que este
+     * proceso contó desde la última lectura o guardado, bajo lock (ver PropertiesFiles)
+     */
+    public static synchronized void save() {
+        Map<String, long[]> current = new TreeMap<>();
+        for (Map.Entry<String, LocatorStats> entry : stats.entrySet()) {
+            current.put(entry.getKey(), new long[] {entry.getValue().wins.get(), entry.getValue().matches.get()});
+        }
+        try {
+            PropertiesFiles.update(rankingFile, "Ranking de localizadores: victorias,coincidencias", properties -> {
+                for (Map.Entry<String, long[]> entry : current.entrySet()) {
+                    long[] base = persisted.getOrDefault(entry.getKey(), new long[2]);
+                    LocatorStats saved = LocatorStats.parse(properties.getProperty(entry.getKey(), "0,0"));
+                    long wins = saved.wins.get() + entry.getValue()[0] - base[0];
+                    long matches = saved.matches.get() + entry.getValue()[1] - base[1];
+                    properties.setProperty(entry.getKey(), wins + "," + matches);
+                }
+            });
+            persisted.putAll(current);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not save locator ranking: " + e.getMessage());
+        }
+    }
+
+    private static void load() {
+        Properties properties;
+        try {
+            properties = PropertiesFiles.read(rankingFile);
+        } catch (IOException e) {
+            System.out.println("Warning: Could not load locator ranking: " + e.getMessage());
+            return;
+        }
+        for (String name : properties.stringPropertyNames()) {
+            if (name.indexOf('|') > 0) {
+                LocatorStats loaded = LocatorStats.parse(properties.getProperty(name));
+                stats.put(name, loaded);
+                persisted.put(name, new long[] {loaded.wins.get(), loaded.matches.get()});
+            }
+        }
+    }
+
+    private static void report() {
+        for (Map.Entry<String, List<String>> entry : getNeverMatched().entrySet()) {
+            for (String locator : entry.getValue()) {
+                System.out.println("Warning: Locator never matched for " + entry.getKey() + ": " + locator);
+            }
+        }
+    }
+
+    /**
+     * Respaldo para localizadores que no se pueden traducir a CSS/XPath: se prueban
+     * uno a uno, como antes, y gana el primero con un elemento visible
+     */
+    private static WebElement findSequentially(WebDriver driver, String key, List<By> ranked) {
+        for (By by : ranked) {
+            List<WebElement> found = driver.findElements(by);
+            if (found.isEmpty()) {
+                continue;
+            }
+            LocatorStats locatorStats = statsFor(key, by);
+            locatorStats.matches.incrementAndGet();
+            for (WebElement element : found) {
+                if (isDisplayed(element)) {
+                    locatorStats.wins.incrementAndGet();
+                    return element;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isDisplayed(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Traduce los localizadores a pares [estrategia, valor] que entiende el script;
+     * retorna null si alguno no es CSS ni XPath
+     */
+    private static List<List<String>> toRemoteCandidates(List<By> locators) {
+        List<List<String>> remote = new ArrayList<>(locators.size());
+        for (By by : locators) {
+            if (!(by instanceof By.Remotable)) {
+                return null;
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+            String using = parameters.using();
+            if (!using.equals("xpath") && !using.equals("css selector")) {
+                return null;
+            }
+            remote.add(Arrays.asList(using, String.valueOf(parameters.value())));
+        }
+        return remote;
+    }
+
+    private static int tierOf(String key, By by) {
+        return tiers.getOrDefault(key + "|" + by, 0);
+    }
+
+    private static long winsOf(String key, By by) {
+        LocatorStats locatorStats = stats.get(key + "|" + by);
+        return locatorStats != null ? locatorStats.wins.get() : 0;
+    }
+
+    private static LocatorStats statsFor(String key, Object locator) {
+        return stats.computeIfAbsent(key + "|" + locator, k -> new LocatorStats());
+    }
+
+    /**
+     * Contadores de un localizador: veces que fue elegido y veces que encontró algo
+     */
+    private static class LocatorStats {
+        private final AtomicLong wins = new AtomicLong();
+        private final AtomicLong matches = new AtomicLong();
+
+        private static LocatorStats parse(String value) {
+            LocatorStats parsed = new LocatorStats();
+            String[] parts = value.split(",");
+            try {
+                parsed.wins.set(Long.parseLong(parts[0].trim()));
+                if (parts.length > 1) {
+                    parsed.matches.set(Long.parseLong(parts[1].trim()));
+                }
+            } catch (NumberFormatException e) {
+                // Entrada corrupta: se reinicia el contador
+            }
+            return parsed;
+        }
+
+        @Override
+        public String toString() {
+            return wins.get() + "," + matches.get();
+        }
+    }
+}
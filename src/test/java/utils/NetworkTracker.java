@@ -0,0 +1,216 @@
+package utils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Seguimiento de las peticiones de red del navegador mediante Chrome DevTools Protocol.
+ *
+ * A diferencia de la instrumentación por JavaScript de BasePage (que solo ve XHR y
+ * fetch después de inyectarse y se pierde al navegar), los eventos de red llegan
+ * desde el navegador en el momento en que cada petición empieza y termina, así una
+ * espera puede terminar justo cuando el backend responde, sin consultar cada 100 ms.
+ *
+ * Se usan los nombres de eventos del protocolo sin las clases versionadas de
+ * Selenium, para no depender de la versión de Chrome. Solo funciona con drivers que
+ * implementan HasDevTools (Chrome, Edge); con otros {@link #forDriver(WebDriver)}
+ * retorna null y las esperas usan la instrumentación por JavaScript. Se desactiva con
+ * -Dbrowser.networkTracking=false.
+ */
+public class NetworkTracker {
+
+    private static final int RECENT_LIMIT = 512;
+
+    // Un seguimiento por navegador; Optional.empty() si el navegador no lo soporta
+    private static final Map<WebDriver, Optional<NetworkTracker>> trackers =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Estado protegido por this
+    private final Map<String, String> inFlight = new HashMap<>();
+    private final Deque<Completed> recent = new ArrayDeque<>();
+    private long completedCount;
+    private long lastActivityNanos = System.nanoTime();
+
+    /**
+     * Seguimiento de red del navegador (se activa en la primera llamada), o null si el
+     * navegador no soporta DevTools o está desactivado
+     */
+    public static NetworkTracker forDriver(WebDriver driver) {
+        if (!Boolean.parseBoolean(System.getProperty("browser.networkTracking", "true"))) {
+            return null;
+        }
+        WebDriver target = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+        if (target == null) {
+            return null;
+        }
+        return trackers.computeIfAbsent(target, NetworkTracker::attach).orElse(null);
+    }
+
+    /**
+     * Olvida el seguimiento de un navegador que se va a cerrar
+     */
+    public static void forget(WebDriver driver) {
+        trackers.remove(driver);
+    }
+
+    private static Optional<NetworkTracker> attach(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            return Optional.empty();
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkTracker tracker = new NetworkTracker();
+            devTools.addListener(event("Network.requestWillBeSent"), tracker::onRequest);
+            devTools.addListener(event("Network.loadingFinished"), params -> tracker.onDone(params, false));
+            devTools.addListener(event("Network.loadingFailed"), params -> tracker.onDone(params, true));
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            return Optional.of(tracker);
+        } catch (RuntimeException e) {
+            System.out.println("Warning: Network tracking via DevTools not available: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // ---------- Esperas ----------
+
+    /**
+     * Espera a que no haya peticiones en curso durante quietPeriod. Retorna false si
+     * no ocurre dentro de timeout.
+     */
+    public synchronized boolean waitForIdle(Duration quietPeriod, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long quiet = quietPeriod.toNanos();
+        while (true) {
+            long now = System.nanoTime();
+            long idleFor = now - lastActivityNanos;
+            if (inFlight.isEmpty() && idleFor >= quiet) {
+                return true;
+            }
+            long remaining = deadline - now;
+            if (remaining <= 0) {
+                return false;
+            }
+            // Sin peticiones en curso basta esperar lo que falta de quietud; si hay, hasta el próximo evento
+            long sleep = inFlight.isEmpty() ? Math.min(quiet - idleFor, remaining) : remaining;
+            if (!await(sleep)) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Marca del momento actual, para esperar solo peticiones que terminen después
+     */
+    public synchronized long mark() {
+        return completedCount;
+    }
+
+    /**
+     * Espera a que termine con éxito una petición cuya URL contenga urlPattern
+     * (expresión regular), completada después de la marca dada. Retorna false si no
+     * ocurre dentro de timeout, o si pasa quietPeriod sin ninguna petición en curso
+     * (la acción no pidió esos datos, por ejemplo porque ya estaban cargados).
+     */
+    public synchronized boolean waitForRequest(String urlPattern, long since, Duration quietPeriod, Duration timeout) {
+        Pattern pattern = Pattern.compile(urlPattern);
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long quiet = quietPeriod.toNanos();
+        while (true) {
+            for (Completed request : recent) {
+                if (request.sequence > since && !request.failed && pattern.matcher(request.url).find()) {
+                    return true;
+                }
+            }
+            long now = System.nanoTime();
+            long idleFor = now - Math.max(start, lastActivityNanos);
+            if (inFlight.isEmpty() && idleFor >= quiet) {
+                return false;
+            }
+            long remaining = deadline - now;
+            long sleep = inFlight.isEmpty() ? Math.min(quiet - idleFor, remaining) : remaining;
+            if (remaining <= 0 || !await(sleep)) {
+                return false;
+            }
+        }
+    }
+
+    public synchronized int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private boolean await(long nanos) {
+        try {
+            wait(Math.max(1, nanos / 1_000_000), 0);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ---------- Eventos ----------
+
+    private synchronized void onRequest(Map<String, Object> params) {
+        String type = String.valueOf(params.get("type"));
+        Object request = params.get("request");
+        String url = request instanceof Map ? String.valueOf(((Map<?, ?>) request).get("url")) : "";
+        // Conexiones que no terminan nunca no cuentan para la inactividad
+        if (type.equals("EventSource") || type.equals("WebSocket") || url.startsWith("data:")) {
+            return;
+        }
+        if (type.equals("Document") && !params.containsKey("redirectResponse")) {
+            // Nueva página: las peticiones de la anterior ya no van a terminar
+            inFlight.clear();
+        }
+        inFlight.put(String.valueOf(params.get("requestId")), url);
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    private synchronized void onDone(Map<String, Object> params, boolean failed) {
+        String id = String.valueOf(params.get("requestId"));
+        String url = inFlight.remove(id);
+        if (url == null) {
+            return;
+        }
+        recent.addLast(new Completed(++completedCount, url, failed));
+        if (recent.size() > RECENT_LIMIT) {
+            recent.removeFirst();
+        }
+        lastActivityNanos = System.nanoTime();
+        notifyAll();
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static final class Completed {
+        private final long sequence;
+        private final String url;
+        private final boolean failed;
+
+        private Completed(long sequence, String url, boolean failed) {
+            this.sequence = sequence;
+            this.url = url;
+            this.failed = failed;
+        }
+    }
+}
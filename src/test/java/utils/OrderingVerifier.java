@@ -0,0 +1,246 @@
+package utils;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Verificador de orden en una sola pasada.
+ *
+ * En vez de copiar la lista, ordenarla y comparar (O(n log n) y una lista extra),
+ * recorre los elementos una vez comparando cada uno con el anterior, y reporta
+ * la primera posición donde se rompe el orden. Admite orden ascendente o
+ * descendente por clave y claves secundarias para desempates.
+ *
+ * Los textos se comparan con la colación del español (ñ después de n, acentos y
+ * mayúsculas no alteran el orden), usando CollationKey calculadas una vez por
+ * elemento. Con {@link #incremental()} se puede verificar una tabla paginada
+ * página a página guardando solo el último elemento.
+ */
+public final class OrderingVerifier<T> {
+
+    private static final ThreadLocal<Collator> SPANISH = ThreadLocal.withInitial(() -> {
+        Collator collator = Collator.getInstance(new Locale("es", "CL"));
+        collator.setStrength(Collator.PRIMARY);
+        return collator;
+    });
+
+    private final List<Function<? super T, ? extends Comparable<?>>> keys;
+    private final List<Boolean> descending;
+
+    private OrderingVerifier(List<Function<? super T, ? extends Comparable<?>>> keys, List<Boolean> descending) {
+        this.keys = keys;
+        this.descending = descending;
+    }
+
+    /**
+     * Orden por una clave; la clave se calcula una sola vez por elemento
+     */
+    public static <T> OrderingVerifier<T> by(Function<? super T, ? extends Comparable<?>> key, boolean descending) {
+        return new OrderingVerifier<T>(new ArrayList<>(), new ArrayList<>()).thenBy(key, descending);
+    }
+
+    /**
+     * Elementos comparables ordenados por su orden natural
+     */
+    public static <T extends Comparable<? super T>> OrderingVerifier<T> natural(boolean descending) {
+        return by(value -> value, descending);
+    }
+
+    /**
+     * Textos ordenados con la colación del español
+     */
+    public static OrderingVerifier<String> spanishText(boolean descending) {
+        return by(OrderingVerifier::spanishKey, descending);
+    }
+
+    /**
+     * Clave de colación en español, sin distinguir mayúsculas ni acentos
+     */
+    public static CollationKey spanishKey(String text) {
+        return SPANISH.get().getCollationKey(text == null ? "" : text.trim());
+    }
+
+    /**
+     * Agrega una clave secundaria, usada solo cuando las anteriores empatan
+     */
+    public OrderingVerifier<T> thenBy(Function<? super T, ? extends Comparable<?>> key, boolean descending) {
+        List<Function<? super T, ? extends Comparable<?>>> newKeys = new ArrayList<>(keys);
+        List<Boolean> newDirections = new ArrayList<>(this.descending);
+        newKeys.add(key);
+        newDirections.add(descending);
+        return new OrderingVerifier<T>(newKeys, newDirections);
+    }
+
+    public Result verify(Iterable<? extends T> items) {
+        return verify(items.iterator());
+    }
+
+    /**
+     * Recorre hasta la primera violación; no consume el resto del iterador
+     */
+    public Result verify(Iterator<? extends T> items) {
+        Incremental session = incremental();
+        while (items.hasNext() && session.getResult().isOrdered()) {
+            session.accept(items.next());
+        }
+        return session.getResult();
+    }
+
+    /**
+     * Verifica una columna de enteros sin convertirla a objetos
+     */
+    public static Result verifyInts(int[] values, boolean descending) {
+        for (int i = 1; i < values.length; i++) {
+            int result = Integer.compare(values[i - 1], values[i]);
+            if (descending ? result < 0 : result > 0) {
+                return new Result(i, values[i - 1], values[i]);
+            }
+        }
+        return Result.ORDERED;
+    }
+
+    /**
+     * Verifica una columna de claves long (por ejemplo fechas en epoch millis);
+     * labels, si no es null, da el texto a mostrar para cada posición
+     */
+    public static Result verifyLongs(long[] keys, List<?> labels, boolean descending) {
+        for (int i = 1; i < keys.length; i++) {
+            int result = Long.compare(keys[i - 1], keys[i]);
+            if (descending ? result < 0 : result > 0) {
+                return labels == null
+                        ? new Result(i, keys[i - 1], keys[i])
+                        : new Result(i, labels.get(i - 1), labels.get(i));
+            }
+        }
+        return Result.ORDERED;
+    }
+
+    /**
+     * Verificación por partes (por ejemplo una página de la tabla a la vez)
+     */
+    public Incremental incremental() {
+        return new Incremental();
+    }
+
+    /**
+     * Estado de una verificación en curso: solo guarda el último elemento y su clave
+     */
+    public final class Incremental {
+        private int index;
+        private T previous;
+        private Object[] previousKey;
+        private Result violation;
+
+        public Incremental accept(T item) {
+            if (violation != null) {
+                index++;
+                return this;
+            }
+            Object[] key = keyOf(item);
+            if (previousKey != null && compare(previousKey, key) > 0) {
+                violation = new Result(index, previous, item);
+            }
+            previous = item;
+            previousKey = key;
+            index++;
+            return this;
+        }
+
+        public Incremental acceptAll(Iterable<? extends T> items) {
+            for (T item : items) {
+                accept(item);
+            }
+            return this;
+        }
+
+        /**
+         * Cantidad de elementos recibidos hasta ahora
+         */
+        public int getCount() {
+            return index;
+        }
+
+        public Result getResult() {
+            return violation != null ? violation : Result.ORDERED;
+        }
+    }
+
+    private Object[] keyOf(T item) {
+        Object[] key = new Object[keys.size()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = keys.get(i).apply(item);
+        }
+        return key;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(Object[] left, Object[] right) {
+        for (int i = 0; i < left.length; i++) {
+            Comparable a = (Comparable) left[i];
+            Comparable b = (Comparable) right[i];
+            int result = a == null ? (b == null ? 0 : -1) : b == null ? 1 : a.compareTo(b);
+            if (result != 0) {
+                return descending.get(i) ? -result : result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Resultado de la verificación: ordenado, o la primera posición que rompe el orden
+     */
+    public static final class Result {
+        static final Result ORDERED = new Result(-1, null, null);
+
+        private final int firstViolation;
+        private final Object previous;
+        private final Object current;
+        private final boolean unreadable;
+
+        private Result(int firstViolation, Object previous, Object current) {
+            this(firstViolation, previous, current, false);
+        }
+
+        private Result(int firstViolation, Object previous, Object current, boolean unreadable) {
+            this.firstViolation = firstViolation;
+            this.previous = previous;
+            this.current = current;
+            this.unreadable = unreadable;
+        }
+
+        /**
+         * Resultado fallido para un valor que no se pudo interpretar (por ejemplo una
+         * fecha en un formato desconocido): no se puede afirmar que la lista esté ordenada
+         */
+        public static Result unreadable(int index, Object value) {
+            return new Result(index, null, value, true);
+        }
+
+        public boolean isOrdered() {
+            return firstViolation < 0;
+        }
+
+        /**
+         * Índice (desde 0) del primer elemento fuera de orden, o -1
+         */
+        public int getFirstViolation() {
+            return firstViolation;
+        }
+
+        @Override
+        public String toString() {
+            if (isOrdered()) {
+                return "ordenado";
+            }
+            if (unreadable) {
+                return "valor no reconocido en la posición " + firstViolation + ": '" + current + "'";
+            }
+            return "orden roto en la posición " + firstViolation + ": '" + previous + "' aparece antes de '" + current + "'";
+        }
+    }
+}
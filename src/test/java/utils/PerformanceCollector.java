@@ -0,0 +1,245 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Métricas de rendimiento del front-end tomadas durante los flujos funcionales.
+ *
+ * Los Page Objects llaman a {@link #capture} después de cada navegación o acción de
+ * modal; un solo script lee de la página Navigation Timing (TTFB, DOMContentLoaded,
+ * load), Paint (FCP), Largest Contentful Paint, Resource Timing y Long Tasks. LCP y
+ * Long Tasks solo se obtienen con PerformanceObserver, que se registra en la primera
+ * captura de cada documento con buffered: true. Cada captura reporta solo los
+ * recursos y tareas largas nuevos desde la anterior.
+ *
+ * Las capturas se acumulan por hilo (un escenario a la vez); Hooks las adjunta al
+ * escenario como JSON y las agrega a una serie de tiempo por página en
+ * -Dperf.dir (por defecto target/perf-history/&lt;Pagina&gt;.csv), que se conserva
+ * entre ejecuciones para ver tendencias. Cada fila indica el perfil de navegador y
+ * el ambiente, para comparar solo ejecuciones equivalentes. Se desactiva con
+ * -Dperf.capture=false.
+ */
+public class PerformanceCollector {
+
+    private static final int MAX_SAMPLES_PER_THREAD = 500;
+    private static final int SLOWEST_RESOURCES = 5;
+    private static final DateTimeFormatter ARCHIVE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    // profile y environment separan series que no se pueden comparar (recursos bloqueados, stub)
+    private static final List<String> CSV_COLUMNS = Arrays.asList(
+            "timestamp", "profile", "environment", "scenario", "action", "path", "ttfbMs", "domContentLoadedMs", "loadMs", "fcpMs", "lcpMs",
+            "resources", "transferKB", "slowestResourceMs", "longTasks", "longTaskMs");
+
+    private static final String PERFORMANCE_SCRIPT =
+            "var p = window.__sentraPerf;"
+            + "if (!p) {"
+            + "  p = window.__sentraPerf = { lcp: 0, longTasks: [], resourceCursor: 0, longTaskCursor: 0, navigationReported: false };"
+            + "  try { performance.setResourceTimingBufferSize(2000); } catch (e) {}"
+            + "  try {"
+            + "    new PerformanceObserver(function (list) {"
+            + "      list.getEntries().forEach(function (e) { p.longTasks.push(e.duration); });"
+            + "    }).observe({ type: 'longtask', buffered: true });"
+            + "  } catch (e) {}"
+            + "  try {"
+            + "    new PerformanceObserver(function (list) {"
+            + "      var entries = list.getEntries();"
+            + "      if (entries.length) { p.lcp = entries[entries.length - 1].startTime; }"
+            + "    }).observe({ type: 'largest-contentful-paint', buffered: true });"
+            + "  } catch (e) {}"
+            + "}"
+            + "var result = { path: location.pathname, lcp: p.lcp };"
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "if (nav && !p.navigationReported && nav.domContentLoadedEventEnd > 0) {"
+            + "  p.navigationReported = true;"
+            + "  result.ttfb = nav.responseStart;"
+            + "  result.domContentLoaded = nav.domContentLoadedEventEnd;"
+            + "  result.load = nav.loadEventEnd > 0 ? nav.loadEventEnd : -1;"
+            + "  var fcp = performance.getEntriesByName('first-contentful-paint')[0];"
+            + "  result.fcp = fcp ? fcp.startTime : -1;"
+            + "}"
+            + "var resources = performance.getEntriesByType('resource').slice(p.resourceCursor);"
+            + "p.resourceCursor += resources.length;"
+            + "var bytes = 0;"
+            + "resources.forEach(function (r) { bytes += r.transferSize || 0; });"
+            + "resources.sort(function (a, b) { return b.duration - a.duration; });"
+            + "result.resources = resources.length;"
+            + "result.transferBytes = bytes;"
+            + "result.slowest = resources.slice(0, arguments[0]).map(function (r) {"
+            + "  return { name: r.name, type: r.initiatorType, durationMs: Math.round(r.duration), bytes: r.transferSize || 0 };"
+            + "});"
+            + "var tasks = p.longTasks.slice(p.longTaskCursor);"
+            + "p.longTaskCursor += tasks.length;"
+            + "result.longTasks = tasks.length;"
+            + "result.longTaskMs = tasks.reduce(function (sum, d) { return sum + d; }, 0);"
+            + "return result;";
+
+    // Capturas del escenario en curso en cada hilo
+    private static final ThreadLocal<List<Map<String, Object>>> samples = ThreadLocal.withInitial(ArrayList::new);
+
+    private PerformanceCollector() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("perf.capture", "true"));
+    }
+
+    /**
+     * Toma las métricas de la página actual después de una acción. Nunca lanza
+     * excepción: una captura fallida no debe hacer fallar el escenario.
+     */
+    public static void capture(WebDriver driver, String page, String action) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(PERFORMANCE_SCRIPT, SLOWEST_RESOURCES);
+            if (!(result instanceof Map)) {
+                return;
+            }
+            Map<?, ?> metrics = (Map<?, ?>) result;
+            Map<String, Object> sample = new LinkedHashMap<>();
+            sample.put("timestamp", Instant.now().toString());
+            sample.put("page", page);
+            sample.put("action", action);
+            sample.put("path", String.valueOf(metrics.get("path")));
+            sample.put("ttfbMs", number(metrics.get("ttfb")));
+            sample.put("domContentLoadedMs", number(metrics.get("domContentLoaded")));
+            sample.put("loadMs", number(metrics.get("load")));
+            sample.put("fcpMs", number(metrics.get("fcp")));
+            sample.put("lcpMs", number(metrics.get("lcp")));
+            sample.put("resources", number(metrics.get("resources")));
+            sample.put("transferBytes", number(metrics.get("transferBytes")));
+            sample.put("longTasks", number(metrics.get("longTasks")));
+            sample.put("longTaskMs", number(metrics.get("longTaskMs")));
+            Object slowest = metrics.get("slowest");
+            sample.put("slowestResources", slowest instanceof List ? slowest : Collections.emptyList());
+
+            List<Map<String, Object>> current = samples.get();
+            if (current.size() < MAX_SAMPLES_PER_THREAD) {
+                current.add(sample);
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Warning: Could not capture performance metrics for " + page + "." + action + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retorna y olvida las capturas del escenario en curso en este hilo
+     */
+    public static List<Map<String, Object>> drain() {
+        List<Map<String, Object>> current = samples.get();
+        samples.remove();
+        return current;
+    }
+
+    /**
+     * Agrega las capturas a la serie de tiempo de cada página (un CSV por página)
+     */
+    public static void appendHistory(String scenario, List<Map<String, Object>> captured) {
+        if (captured.isEmpty()) {
+            return;
+        }
+        String profile = DriverProfile.selectedName();
+        String environment = AppConfig.getEnvironmentName();
+        Map<String, List<String>> rowsByPage = new LinkedHashMap<>();
+        for (Map<String, Object> sample : captured) {
+            rowsByPage.computeIfAbsent(String.valueOf(sample.get("page")), page -> new ArrayList<>())
+                    .add(toCsvRow(profile, environment, scenario, sample));
+        }
+        Path dir = Paths.get(System.getProperty("perf.dir", "target/perf-history"));
+        // Escenarios en paralelo escriben en los mismos archivos
+        synchronized (PerformanceCollector.class) {
+            for (Map.Entry<String, List<String>> entry : rowsByPage.entrySet()) {
+                Path file = dir.resolve(entry.getKey() + ".csv");
+                try {
+                    Files.createDirectories(dir);
+                    archiveIfOtherColumns(file);
+                    List<String> lines = new ArrayList<>();
+                    if (!Files.exists(file)) {
+                        lines.add(String.join(",", CSV_COLUMNS));
+                    }
+                    lines.addAll(entry.getValue());
+                    Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                } catch (IOException e) {
+                    System.out.println("Warning: Could not write performance history " + file + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Un historial con otras columnas (de una versión anterior) se renombra a
+     * &lt;Pagina&gt;.&lt;fecha&gt;.csv en vez de mezclar filas con distinto formato
+     */
+    private static void archiveIfOtherColumns(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        String header;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            header = reader.readLine();
+        }
+        if (String.join(",", CSV_COLUMNS).equals(header)) {
+            return;
+        }
+        String name = file.getFileName().toString().replaceFirst("\\.csv$", "");
+        Path archived = file.resolveSibling(name + "." + ARCHIVE_SUFFIX.format(LocalDateTime.now()) + ".csv");
+        Files.move(file, archived);
+        System.out.println("Warning: Performance history " + file + " had other columns; archived as " + archived);
+    }
+
+    private static String toCsvRow(String profile, String environment, String scenario, Map<String, Object> sample) {
+        long slowestMs = 0;
+        Object slowest = sample.get("slowestResources");
+        if (slowest instanceof List && !((List<?>) slowest).isEmpty() && ((List<?>) slowest).get(0) instanceof Map) {
+            slowestMs = number(((Map<?, ?>) ((List<?>) slowest).get(0)).get("durationMs"));
+        }
+        return String.join(",",
+                String.valueOf(sample.get("timestamp")),
+                csv(profile),
+                csv(environment),
+                csv(scenario),
+                csv(String.valueOf(sample.get("action"))),
+                csv(String.valueOf(sample.get("path"))),
+                String.valueOf(sample.get("ttfbMs")),
+                String.valueOf(sample.get("domContentLoadedMs")),
+                String.valueOf(sample.get("loadMs")),
+                String.valueOf(sample.get("fcpMs")),
+                String.valueOf(sample.get("lcpMs")),
+                String.valueOf(sample.get("resources")),
+                String.format(Locale.ROOT, "%.1f", number(sample.get("transferBytes")) / 1024.0),
+                String.valueOf(slowestMs),
+                String.valueOf(sample.get("longTasks")),
+                String.valueOf(sample.get("longTaskMs")));
+    }
+
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Valor numérico redondeado a entero, o -1 si la página no lo informó
+     */
+    private static long number(Object value) {
+        return value instanceof Number ? Math.round(((Number) value).doubleValue()) : -1;
+    }
+}
@@ -0,0 +1,79 @@
+package utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Archivos .properties que acumulan datos entre ejecuciones y que varios procesos
+ * pueden actualizar a la vez (por ejemplo los shards de una ejecución en CI).
+ *
+ * {@link #update} lee, combina y escribe el archivo con un FileLock sobre
+ * &lt;archivo&gt;.lock, así ningún proceso pierde lo que otro acaba de guardar. La
+ * escritura va a un archivo temporal que luego reemplaza al original con un
+ * movimiento atómico: un lector ve el archivo anterior o el nuevo, nunca uno a medias.
+ */
+public final class PropertiesFiles {
+
+    private PropertiesFiles() {
+    }
+
+    /**
+     * Lee el archivo; si no existe retorna un Properties vacío
+     */
+    public static Properties read(Path file) throws IOException {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Combina el contenido actual del archivo con merge y lo guarda, todo bajo el lock.
+     * Retorna lo que quedó guardado. Dentro de un mismo proceso las llamadas se serializan,
+     * porque un FileLock no se puede tomar dos veces desde la misma JVM.
+     */
+    public static synchronized Properties update(Path file, String comment, Consumer<Properties> merge)
+            throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path lockFile = dir.resolve(file.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // El lock se libera al cerrar el canal
+            channel.lock();
+            Properties properties = read(file);
+            merge.accept(properties);
+
+            Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    properties.store(out, comment);
+                }
+                move(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return properties;
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Mismo directorio: solo ocurre en sistemas de archivos sin rename atómico
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package utils;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Motor mínimo de pruebas basadas en propiedades.
+ *
+ * Uso:
+ *   Property.forAll("ordenar títulos", Gen.listOf(Gen.taskTitles(), 1, 10))
+ *           .trials(100)
+ *           .parallel()
+ *           .check(titles -> assertTrue(...));
+ *
+ * Cada prueba usa su propia semilla. Si alguna falla, el caso se reduce al
+ * contraejemplo mínimo que sigue fallando y el error indica la semilla para
+ * repetir solo ese caso con -Dproperty.seed=&lt;semilla&gt; (junto con
+ * --tests para elegir el método). -Dproperty.trials cambia la cantidad de
+ * pruebas de todas las propiedades. parallel() solo debe usarse en propiedades
+ * puras, sin navegador ni estado compartido.
+ */
+public class Property<T> {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final String name;
+    private final Gen<T> generator;
+    private int trials = 100;
+    private int maxShrinks = 1000;
+    private boolean parallel;
+
+    private Property(String name, Gen<T> generator) {
+        this.name = name;
+        this.generator = generator;
+    }
+
+    public static <T> Property<T> forAll(String name, Gen<T> generator) {
+        return new Property<>(name, generator);
+    }
+
+    public Property<T> trials(int trials) {
+        this.trials = trials;
+        return this;
+    }
+
+    /**
+     * Máximo de casos a evaluar al reducir (conviene bajarlo en propiedades con navegador)
+     */
+    public Property<T> maxShrinks(int maxShrinks) {
+        this.maxShrinks = maxShrinks;
+        return this;
+    }
+
+    /**
+     * Ejecuta las pruebas en paralelo; solo para propiedades puras
+     */
+    public Property<T> parallel() {
+        this.parallel = true;
+        return this;
+    }
+
+    /**
+     * Verifica la propiedad: la aserción falla lanzando AssertionError o una excepción
+     */
+    public void check(Consumer<? super T> assertion) {
+        String replay = System.getProperty("property.seed");
+        if (replay != null && !replay.trim().isEmpty()) {
+            long seed = Long.parseLong(replay.trim());
+            Shrinkable<T> value = generator.sample(new Random(seed));
+            Throwable error = failure(assertion, value.getValue());
+            if (error != null) {
+                report(0, 1, seed, value, error, assertion);
+            }
+            return;
+        }
+
+        int count = Integer.getInteger("property.trials", trials);
+        long baseSeed = new Random().nextLong();
+
+        // Se guarda la falla de menor índice, para que el reporte no dependa del orden de los hilos.
+        // El caso y su error se conservan tal cual: volver a generarlo o evaluarlo puede dar otro
+        // resultado (generadores no deterministas, fallas intermitentes del navegador)
+        AtomicReference<Failure<T>> first = new AtomicReference<>();
+        IntStream indexes = IntStream.range(0, count);
+        (parallel ? indexes.parallel() : indexes).forEach(index -> {
+            Failure<T> current = first.get();
+            if (current != null && index > current.index) {
+                return;
+            }
+            long seed = trialSeed(baseSeed, index);
+            Shrinkable<T> value = generator.sample(new Random(seed));
+            Throwable error = failure(assertion, value.getValue());
+            if (error != null) {
+                Failure<T> found = new Failure<>(index, seed, value, error);
+                first.accumulateAndGet(found, (a, b) -> a == null || b.index < a.index ? b : a);
+            }
+        });
+
+        Failure<T> failure = first.get();
+        if (failure != null) {
+            report(failure.index, count, failure.seed, failure.value, failure.error, assertion);
+        }
+    }
+
+    /**
+     * Reduce un caso que ya falló y lanza el error; se lanza aunque ninguna reducción
+     * vuelva a fallar
+     */
+    private void report(int index, int count, long seed, Shrinkable<T> original, Throwable originalError,
+                        Consumer<? super T> assertion) {
+        Shrinkable<T> smallest = original;
+        Throwable error = originalError;
+        int shrinkSteps = 0;
+        int evaluated = 0;
+        boolean improved = true;
+        while (improved && evaluated < maxShrinks) {
+            improved = false;
+            Iterator<Shrinkable<T>> candidates = smallest.shrinks().iterator();
+            while (candidates.hasNext() && evaluated < maxShrinks) {
+                Shrinkable<T> candidate = candidates.next();
+                evaluated++;
+                Throwable candidateError = failure(assertion, candidate.getValue());
+                if (candidateError != null) {
+                    smallest = candidate;
+                    error = candidateError;
+                    shrinkSteps++;
+                    improved = true;
+                    break;
+                }
+            }
+        }
+
+        throw new AssertionError("Propiedad '" + name + "' falló en la prueba " + (index + 1) + " de " + count
+                + " (semilla " + seed + ", repetir con -Dproperty.seed=" + seed + ")"
+                + "\n  Caso original: " + original.getValue()
+                + "\n  Contraejemplo mínimo (" + shrinkSteps + " reducciones): " + smallest.getValue()
+                + "\n  Error: " + error.getMessage(), error);
+    }
+
+    private static <T> Throwable failure(Consumer<? super T> assertion, T value) {
+        try {
+            assertion.accept(value);
+            return null;
+        } catch (AssertionError | RuntimeException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Primera prueba que falló: su índice, semilla, el caso generado y el error
+     */
+    private static final class Failure<T> {
+        private final int index;
+        private final long seed;
+        private final Shrinkable<T> value;
+        private final Throwable error;
+
+        private Failure(int index, long seed, Shrinkable<T> value, Throwable error) {
+            this.index = index;
+            this.seed = seed;
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+    private static long trialSeed(long baseSeed, int index) {
+        long seed = baseSeed + (index + 1) * GOLDEN_GAMMA;
+        seed = (seed ^ (seed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        seed = (seed ^ (seed >>> 27)) * 0x94D049BB133111EBL;
+        return seed ^ (seed >>> 31);
+    }
+}
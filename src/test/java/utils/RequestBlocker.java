@@ -0,0 +1,221 @@
+package utils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+/**
+ * Bloqueo de recursos que las pruebas no necesitan (fuentes, imágenes, source maps,
+ * scripts de terceros) mediante Network.setBlockedURLs de Chrome DevTools Protocol.
+ *
+ * La lista de patrones sale del perfil de navegador (browser.blockedUrls, separada
+ * por comas, con * como comodín) y se aplica a toda la sesión: a LoginPage.open()
+ * y a cada navegación de la SPA, sin cambiar los Page Objects. Así cada página
+ * carga antes y los navegadores en paralelo no descargan lo mismo del servidor.
+ *
+ * Cuenta las peticiones bloqueadas (evento Network.loadingFailed con blockedReason)
+ * por tipo de recurso. Con -Dbrowser.blockedUrls.measure=true los bytes ahorrados se
+ * estiman con el Content-Length de una petición HEAD, una sola vez por URL distinta
+ * en todo el proceso y solo para URL del mismo origen que la aplicación: los scripts
+ * de terceros (analítica) se bloquean justamente para no contactarlos. Solo funciona
+ * con drivers que implementan HasDevTools (Chrome, Edge); con Firefox la lista se ignora.
+ */
+public class RequestBlocker {
+
+    private static final Duration MEASURE_TIMEOUT = Duration.ofSeconds(5);
+
+    // Totales de todo el proceso, sumando todos los navegadores
+    private static final AtomicLong blockedRequests = new AtomicLong();
+    private static final Map<String, AtomicLong> blockedByType = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> blockedByUrl = new ConcurrentHashMap<>();
+    private static final Map<String, CompletableFuture<Long>> sizes = new ConcurrentHashMap<>();
+
+    private static volatile HttpClient measureClient;
+
+    // URL de cada petición en curso de este navegador, para saber cuál se bloqueó
+    private final Map<String, String> urls = Collections.synchronizedMap(new HashMap<>());
+
+    private RequestBlocker() {
+    }
+
+    /**
+     * Aplica la lista de bloqueo del perfil a un navegador recién creado. Retorna
+     * false si la lista está vacía o el navegador no soporta DevTools.
+     */
+    public static boolean install(WebDriver driver, List<String> patterns) {
+        if (patterns.isEmpty()) {
+            return false;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            System.out.println("Warning: Request blocking needs DevTools; ignoring " + patterns.size() + " blocked URL patterns");
+            return false;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            RequestBlocker blocker = new RequestBlocker();
+            devTools.addListener(event("Network.requestWillBeSent"), blocker::onRequest);
+            devTools.addListener(event("Network.loadingFinished"), params -> blocker.urls.remove(requestId(params)));
+            devTools.addListener(event("Network.loadingFailed"), blocker::onFailed);
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            devTools.send(new Command<Void>("Network.setBlockedURLs", Collections.singletonMap("urls", patterns)));
+            return true;
+        } catch (RuntimeException e) {
+            System.out.println("Warning: Could not install request blocking: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // ---------- Contadores ----------
+
+    public static long getBlockedRequests() {
+        return blockedRequests.get();
+    }
+
+    /**
+     * Bytes que no se descargaron, según el tamaño conocido de cada URL bloqueada;
+     * las URL sin Content-Length (o aún sin medir) no suman
+     */
+    public static long getEstimatedBytesSaved() {
+        long bytes = 0;
+        for (Map.Entry<String, AtomicLong> entry : blockedByUrl.entrySet()) {
+            CompletableFuture<Long> size = sizes.get(entry.getKey());
+            long known = size == null ? -1 : size.getNow(-1L);
+            if (known > 0) {
+                bytes += known * entry.getValue().get();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Peticiones bloqueadas por tipo de recurso (Font, Image, Script...)
+     */
+    public static Map<String, Long> getBlockedByType() {
+        Map<String, Long> counts = new TreeMap<>();
+        blockedByType.forEach((type, count) -> counts.put(type, count.get()));
+        return counts;
+    }
+
+    public static String getStats() {
+        if (!isMeasureEnabled()) {
+            return String.format("%d requests blocked %s (%d distinct URLs)",
+                    getBlockedRequests(), getBlockedByType(), blockedByUrl.size());
+        }
+        return String.format("%d requests blocked %s, ~%d KB saved (%d distinct URLs)",
+                getBlockedRequests(), getBlockedByType(), getEstimatedBytesSaved() / 1024, blockedByUrl.size());
+    }
+
+    private static boolean isMeasureEnabled() {
+        return Boolean.parseBoolean(System.getProperty("browser.blockedUrls.measure", "false"));
+    }
+
+    // ---------- Eventos ----------
+
+    private void onRequest(Map<String, Object> params) {
+        if ("Document".equals(params.get("type")) && !params.containsKey("redirectResponse")) {
+            // Nueva página: las peticiones de la anterior ya no van a terminar
+            urls.clear();
+        }
+        Object request = params.get("request");
+        if (request instanceof Map) {
+            urls.put(requestId(params), String.valueOf(((Map<?, ?>) request).get("url")));
+        }
+    }
+
+    private void onFailed(Map<String, Object> params) {
+        String url = urls.remove(requestId(params));
+        if (params.get("blockedReason") == null || url == null) {
+            return;
+        }
+        blockedRequests.incrementAndGet();
+        blockedByType.computeIfAbsent(String.valueOf(params.get("type")), type -> new AtomicLong()).incrementAndGet();
+        blockedByUrl.computeIfAbsent(url, key -> new AtomicLong()).incrementAndGet();
+        sizes.computeIfAbsent(url, RequestBlocker::measure);
+    }
+
+    /**
+     * Tamaño del recurso según el Content-Length de una petición HEAD, o -1 si la medición
+     * está desactivada o la URL es de otro origen
+     */
+    private static CompletableFuture<Long> measure(String url) {
+        if (!isMeasureEnabled() || !isSameOrigin(url)) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        try {
+            HttpRequest head = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(MEASURE_TIMEOUT)
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .build();
+            return client().sendAsync(head, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> response.statusCode() / 100 == 2
+                            ? response.headers().firstValueAsLong("Content-Length").orElse(-1L)
+                            : -1L)
+                    .exceptionally(error -> -1L);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+    }
+
+    /**
+     * true si la URL tiene el mismo esquema, host y puerto que AppConfig.getBaseUrl()
+     */
+    private static boolean isSameOrigin(String url) {
+        try {
+            URI target = URI.create(url);
+            URI app = URI.create(AppConfig.getBaseUrl());
+            return target.getScheme() != null && target.getHost() != null
+                    && target.getScheme().equalsIgnoreCase(app.getScheme())
+                    && target.getHost().equalsIgnoreCase(app.getHost())
+                    && port(target) == port(app);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private static HttpClient client() {
+        if (measureClient == null) {
+            synchronized (RequestBlocker.class) {
+                if (measureClient == null) {
+                    measureClient = HttpClient.newBuilder()
+                            .connectTimeout(MEASURE_TIMEOUT)
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .build();
+                }
+            }
+        }
+        return measureClient;
+    }
+
+    private static String requestId(Map<String, Object> params) {
+        return String.valueOf(params.get("requestId"));
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
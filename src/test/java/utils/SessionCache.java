@@ -0,0 +1,153 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Caché de sesiones autenticadas por hilo de trabajo.
+ *
+ * Después de un login real por la UI se guarda una instantánea de cookies,
+ * localStorage y sessionStorage. Los escenarios siguientes del mismo hilo restauran
+ * esa instantánea directamente en el navegador y evitan escribir credenciales.
+ * Se puede desactivar con -Dsession.cache=false.
+ */
+public class SessionCache {
+
+    // Instantáneas del hilo actual, indexadas por credenciales
+    private static final ThreadLocal<Map<String, SessionSnapshot>> snapshots =
+            ThreadLocal.withInitial(HashMap::new);
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("session.cache", "true"));
+    }
+
+    /**
+     * Guarda el estado de sesión actual del navegador para las credenciales dadas
+     */
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver, String email, String password) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(
+                    "return { local: Object.assign({}, window.localStorage),"
+                    + " session: Object.assign({}, window.sessionStorage) };");
+
+            SessionSnapshot snapshot = new SessionSnapshot(
+                    new ArrayList<>(driver.manage().getCookies()),
+                    toStringMap(storage.get("local")),
+                    toStringMap(storage.get("session")),
+                    driver.getCurrentUrl());
+            snapshots.get().put(key(email, password), snapshot);
+        } catch (Exception e) {
+            System.out.println("Warning: Could not capture session snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Inyecta la instantánea guardada en el navegador y navega a la página donde fue tomada.
+     * Retorna false si no hay instantánea para estas credenciales o no pudo aplicarse;
+     * quien llama debe verificar además que el servidor aceptó la sesión.
+     */
+    public static boolean restore(WebDriver driver, String email, String password) {
+        if (!isEnabled()) {
+            return false;
+        }
+        SessionSnapshot snapshot = snapshots.get().get(key(email, password));
+        if (snapshot == null) {
+            return false;
+        }
+        try {
+            // Cookies y almacenamiento solo pueden escribirse estando en el mismo origen
+            driver.get(AppConfig.getBaseUrl());
+            driver.manage().deleteAllCookies();
+            for (Cookie cookie : snapshot.cookies) {
+                try {
+                    driver.manage().addCookie(cookie);
+                } catch (Exception e) {
+                    System.out.println("Warning: Could not restore cookie " + cookie.getName() + ": " + e.getMessage());
+                }
+            }
+            ((JavascriptExecutor) driver).executeScript(
+                    "window.localStorage.clear(); window.sessionStorage.clear();"
+                    + " for (var k in arguments[0]) { window.localStorage.setItem(k, arguments[0][k]); }"
+                    + " for (var k in arguments[1]) { window.sessionStorage.setItem(k, arguments[1][k]); }",
+                    snapshot.localStorage, snapshot.sessionStorage);
+            driver.get(snapshot.url);
+            return true;
+        } catch (Exception e) {
+            System.out.println("Warning: Could not restore session snapshot: " + e.getMessage());
+            invalidate(email, password);
+            return false;
+        }
+    }
+
+    /**
+     * Borra cookies y almacenamiento del origen actual, para que un login por la UI
+     * no herede restos de una instantánea rechazada
+     */
+    public static void clearBrowserSession(WebDriver driver) {
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        } catch (Exception e) {
+            System.out.println("Warning: Could not clear browser session: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Descarta la instantánea de unas credenciales (por ejemplo, si el servidor la rechazó)
+     */
+    public static void invalidate(String email, String password) {
+        snapshots.get().remove(key(email, password));
+    }
+
+    /**
+     * Descarta todas las instantáneas del hilo actual (por ejemplo, después de un logout)
+     */
+    public static void invalidateAll() {
+        snapshots.get().clear();
+    }
+
+    private static String key(String email, String password) {
+        return AppConfig.getBaseUrl() + "|" + email + "|" + password;
+    }
+
+    private static Map<String, String> toStringMap(Object value) {
+        if (!(value instanceof Map)) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> result = new HashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            result.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Estado de sesión capturado desde el navegador
+     */
+    private static class SessionSnapshot {
+        private final List<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+        private final String url;
+
+        private SessionSnapshot(List<Cookie> cookies, Map<String, String> localStorage,
+                                Map<String, String> sessionStorage, String url) {
+            this.cookies = cookies;
+            this.localStorage = localStorage;
+            this.sessionStorage = sessionStorage;
+            this.url = url;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package utils;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Valor generado junto con sus versiones "más pequeñas", calculadas solo si se piden.
+ *
+ * Las reducciones viajan con el valor, así un generador derivado con map()
+ * sigue sabiendo reducirse: se reduce el valor original y se vuelve a aplicar
+ * la función.
+ */
+public final class Shrinkable<T> {
+
+    private final T value;
+    private final Supplier<Stream<Shrinkable<T>>> shrinks;
+
+    public Shrinkable(T value, Supplier<Stream<Shrinkable<T>>> shrinks) {
+        this.value = value;
+        this.shrinks = shrinks;
+    }
+
+    /**
+     * Valor que ya no se puede reducir
+     */
+    public static <T> Shrinkable<T> of(T value) {
+        return new Shrinkable<>(value, Stream::empty);
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Candidatos más pequeños, del más agresivo al más conservador
+     */
+    public Stream<Shrinkable<T>> shrinks() {
+        return shrinks.get();
+    }
+
+    public <R> Shrinkable<R> map(Function<? super T, ? extends R> mapper) {
+        return new Shrinkable<>(mapper.apply(value), () -> shrinks().map(candidate -> candidate.map(mapper)));
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
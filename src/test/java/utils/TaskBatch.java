@@ -0,0 +1,87 @@
+package utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import utils.TestDataGenerator.TaskTestData;
+
+/**
+ * Lote de tareas de prueba en formato columnar: títulos y descripciones en
+ * arreglos paralelos y prioridades en un int[], sin un objeto por tarea.
+ * Pensado para sembrar miles de tareas en las pruebas de paginación y orden.
+ * Requerimientos: 7.1
+ */
+public class TaskBatch {
+
+    private static final String CSV_HEADER = "title,description,priority";
+
+    private final String[] titles;
+    private final String[] descriptions;
+    private final int[] priorities;
+
+    TaskBatch(int size) {
+        this.titles = new String[size];
+        this.descriptions = new String[size];
+        this.priorities = new int[size];
+    }
+
+    /**
+     * Llena todas las filas; en paralelo cada hilo usa su propio Random y buffer
+     */
+    TaskBatch fill(boolean parallel) {
+        IntStream rows = IntStream.range(0, size());
+        (parallel ? rows.parallel() : rows).forEach(i -> {
+            titles[i] = TestDataGenerator.generateUniqueTaskTitle();
+            descriptions[i] = TestDataGenerator.generateTaskDescription();
+            priorities[i] = TestDataGenerator.generateTaskPriority();
+        });
+        return this;
+    }
+
+    public int size() {
+        return titles.length;
+    }
+
+    public String[] getTitles() { return titles; }
+    public String[] getDescriptions() { return descriptions; }
+    public int[] getPriorities() { return priorities; }
+
+    /**
+     * Fila i como objeto, para reutilizar los steps que reciben TaskTestData
+     */
+    public TaskTestData get(int i) {
+        return new TaskTestData(titles[i], descriptions[i], priorities[i]);
+    }
+
+    /**
+     * Escribe el lote como CSV con encabezado (por ejemplo para Examples de un Scenario Outline)
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        out.append(CSV_HEADER).append('\n');
+        for (int i = 0; i < size(); i++) {
+            appendCsv(out, titles[i]).append(',');
+            appendCsv(out, descriptions[i]).append(',');
+            out.append(Integer.toString(priorities[i])).append('\n');
+        }
+    }
+
+    public void writeCsv(Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeCsv(out);
+        }
+    }
+
+    /**
+     * Agrega un valor CSV, entre comillas solo si contiene separadores o comillas
+     */
+    static Appendable appendCsv(Appendable out, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return out.append(value);
+        }
+        return out.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -1,9 +1,10 @@
 package utils;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Random;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Utilidad para generación de datos de prueba únicos.
@@ -12,29 +13,61 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Esta clase solo genera datos y no contiene validaciones ni lógica de test.
  * Proporciona métodos para crear información realista y única que puede
  * ser utilizada en pruebas automatizadas sin interferir entre ejecuciones.
+ *
+ * Los métodos se llaman desde muchos hilos a la vez (escenarios en paralelo y
+ * generación masiva de datos), por lo que el generador evita estado compartido
+ * mutable: cada hilo usa su propio ThreadLocalRandom y su propio buffer de
+ * texto, y el timestamp formateado se calcula una vez por segundo y se
+ * reutiliza. Los formatos de salida son los mismos de siempre.
+ *
+ * El número único lo entrega {@link UniqueIdAllocator}, compartido entre
+ * procesos del mismo equipo, para que forks paralelos no generen el mismo email.
+ * Los emails, usuarios y títulos se descartan si {@link UsedIdentifierFilter} dice
+ * que ya se usaron contra el mismo ambiente; quien los envía al servidor los
+ * registra con {@link #markUsed(String)}. Generar datos sin enviarlos (benchmarks,
+ * pruebas de propiedades) no escribe en el filtro.
  */
 public class TestDataGenerator {
     
-    private static final AtomicInteger counter = new AtomicInteger(0);
-    private static final Random random = new Random();
+    private static final UniqueIdAllocator ids = UniqueIdAllocator.shared();
+
+    // Intentos antes de concluir que el filtro de identificadores usados está saturado
+    private static final int MAX_UNUSED_ATTEMPTS = 32;
+
+    private static final DateTimeFormatter COMPACT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final DateTimeFormatter READABLE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Timestamp del segundo actual ya formateado; se reemplaza completo al cambiar de segundo
+    private static volatile Timestamp timestamp = Timestamp.of(System.currentTimeMillis() / 1000);
+
+    // Buffers reutilizables por hilo para armar emails, títulos y contraseñas
+    private static final ThreadLocal<StringBuilder> textBuffer =
+            ThreadLocal.withInitial(() -> new StringBuilder(128));
+    private static final ThreadLocal<char[]> passwordBuffer = ThreadLocal.withInitial(() -> new char[32]);
+
+    private static final String UPPER_CASE = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String LOWER_CASE = "abcdefghijklmnopqrstuvwxyz";
+    private static final String NUMBERS = "0123456789";
+    private static final String SPECIAL_CHARS = "!@#$%^&*";
+    private static final String ALL_CHARS = UPPER_CASE + LOWER_CASE + NUMBERS + SPECIAL_CHARS;
     
-    // Arrays para generar nombres realistas
-    private static final String[] FIRST_NAMES = {
+    // Arrays para generar nombres realistas (también los usa Gen)
+    static final String[] FIRST_NAMES = {
         "Ana", "Carlos", "María", "José", "Carmen", "Antonio", "Isabel", "Manuel",
         "Pilar", "Francisco", "Dolores", "David", "Rosario", "Daniel", "Antonia"
     };
     
-    private static final String[] LAST_NAMES = {
+    static final String[] LAST_NAMES = {
         "García", "Rodríguez", "González", "Fernández", "López", "Martínez", "Sánchez",
         "Pérez", "Gómez", "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno"
     };
     
-    private static final String[] TASK_PREFIXES = {
+    static final String[] TASK_PREFIXES = {
         "Implementar", "Desarrollar", "Crear", "Diseñar", "Configurar", "Optimizar",
         "Revisar", "Actualizar", "Corregir", "Mejorar", "Validar", "Documentar"
     };
     
-    private static final String[] TASK_SUBJECTS = {
+    static final String[] TASK_SUBJECTS = {
         "funcionalidad", "módulo", "componente", "interfaz", "sistema", "proceso",
         "algoritmo", "base de datos", "API", "servicio", "aplicación", "feature"
     };
@@ -44,9 +77,7 @@ public class TestDataGenerator {
      * Requerimientos: 7.1
      */
     public static String generateUniqueEmail() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int uniqueId = counter.incrementAndGet();
-        return String.format("test_%s_%d@automation.com", timestamp, uniqueId);
+        return generateUniqueEmail("automation.com");
     }
 
     /**
@@ -54,9 +85,14 @@ public class TestDataGenerator {
      * Requerimientos: 7.1
      */
     public static String generateUniqueEmail(String domain) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int uniqueId = counter.incrementAndGet();
-        return String.format("test_%s_%d@%s", timestamp, uniqueId, domain);
+        for (int attempt = 0; attempt < MAX_UNUSED_ATTEMPTS; attempt++) {
+            StringBuilder builder = buffer().append("test_").append(currentTimestamp().compact).append('_');
+            String email = ids.appendNextId(builder).append('@').append(domain).toString();
+            if (!isUsed(email)) {
+                return email;
+            }
+        }
+        throw filterSaturated("email");
     }
 
     /**
@@ -64,7 +100,7 @@ public class TestDataGenerator {
      * Requerimientos: 7.1
      */
     public static String generateFirstName() {
-        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        return FIRST_NAMES[random().nextInt(FIRST_NAMES.length)];
     }
 
     /**
@@ -72,7 +108,7 @@ public class TestDataGenerator {
      * Requerimientos: 7.1
      */
     public static String generateLastName() {
-        return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return LAST_NAMES[random().nextInt(LAST_NAMES.length)];
     }
 
     /**
@@ -80,9 +116,14 @@ public class TestDataGenerator {
      * Requerimientos: 7.1
      */
     public static String generateUniqueUsername() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int uniqueId = counter.incrementAndGet();
-        return String.format("user_%s_%d", timestamp, uniqueId);
+        for (int attempt = 0; attempt < MAX_UNUSED_ATTEMPTS; attempt++) {
+            StringBuilder builder = buffer().append("user_").append(currentTimestamp().compact).append('_');
+            String username = ids.appendNextId(builder).toString();
+            if (!isUsed(username)) {
+                return username;
+            }
+        }
+        throw filterSaturated("usuario");
     }
 
     /**
@@ -94,27 +135,28 @@ public class TestDataGenerator {
             length = 8; // Longitud mínima segura
         }
         
-        String upperCase = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-        String lowerCase = "abcdefghijklmnopqrstuvwxyz";
-        String numbers = "0123456789";
-        String specialChars = "!@#$%^&*";
-        
-        StringBuilder password = new StringBuilder();
+        ThreadLocalRandom random = random();
+        char[] password = passwordChars(length);
         
         // Asegurar al menos un carácter de cada categoría
-        password.append(upperCase.charAt(random.nextInt(upperCase.length())));
-        password.append(lowerCase.charAt(random.nextInt(lowerCase.length())));
-        password.append(numbers.charAt(random.nextInt(numbers.length())));
-        password.append(specialChars.charAt(random.nextInt(specialChars.length())));
+        password[0] = UPPER_CASE.charAt(random.nextInt(UPPER_CASE.length()));
+        password[1] = LOWER_CASE.charAt(random.nextInt(LOWER_CASE.length()));
+        password[2] = NUMBERS.charAt(random.nextInt(NUMBERS.length()));
+        password[3] = SPECIAL_CHARS.charAt(random.nextInt(SPECIAL_CHARS.length()));
         
         // Llenar el resto aleatoriamente
-        String allChars = upperCase + lowerCase + numbers + specialChars;
         for (int i = 4; i < length; i++) {
-            password.append(allChars.charAt(random.nextInt(allChars.length())));
+            password[i] = ALL_CHARS.charAt(random.nextInt(ALL_CHARS.length()));
         }
         
-        // Mezclar la contraseña
-        return shuffleString(password.toString());
+        // Mezclar la contraseña en el mismo buffer (Fisher-Yates)
+        for (int i = length - 1; i > 0; i--) {
+            int randomIndex = random.nextInt(i + 1);
+            char temp = password[i];
+            password[i] = password[randomIndex];
+            password[randomIndex] = temp;
+        }
+        return new String(password, 0, length);
     }
 
     /**
@@ -130,12 +172,18 @@ public class TestDataGenerator {
      * Requerimientos: 7.1
      */
     public static String generateUniqueTaskTitle() {
-        String prefix = TASK_PREFIXES[random.nextInt(TASK_PREFIXES.length)];
-        String subject = TASK_SUBJECTS[random.nextInt(TASK_SUBJECTS.length)];
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int uniqueId = counter.incrementAndGet();
-        
-        return String.format("%s %s %s_%d", prefix, subject, timestamp, uniqueId);
+        ThreadLocalRandom random = random();
+        for (int attempt = 0; attempt < MAX_UNUSED_ATTEMPTS; attempt++) {
+            StringBuilder builder = buffer()
+                    .append(TASK_PREFIXES[random.nextInt(TASK_PREFIXES.length)]).append(' ')
+                    .append(TASK_SUBJECTS[random.nextInt(TASK_SUBJECTS.length)]).append(' ')
+                    .append(currentTimestamp().compact).append('_');
+            String title = ids.appendNextId(builder).toString();
+            if (!isUsed(title)) {
+                return title;
+            }
+        }
+        throw filterSaturated("título");
     }
 
     /**
@@ -143,11 +191,10 @@ public class TestDataGenerator {
      * Requerimientos: 7.1
      */
     public static String generateTaskDescription() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
-        int uniqueId = counter.incrementAndGet();
-        
-        return String.format("Descripción automática generada el %s con ID único %d para pruebas de automatización", 
-                           timestamp, uniqueId);
+        StringBuilder description = buffer()
+                .append("Descripción automática generada el ").append(currentTimestamp().readable)
+                .append(" con ID único ");
+        return ids.appendNextId(description).append(" para pruebas de automatización").toString();
     }
 
     /**
@@ -155,7 +202,7 @@ public class TestDataGenerator {
      * Requerimientos: 7.1
      */
     public static int generateTaskPriority() {
-        return random.nextInt(5) + 1; // 1 a 5
+        return random().nextInt(5) + 1; // 1 a 5
     }
 
     /**
@@ -166,7 +213,7 @@ public class TestDataGenerator {
         if (min >= max) {
             return min;
         }
-        return random.nextInt(max - min + 1) + min;
+        return random().nextInt(max - min + 1) + min;
     }
 
     /**
@@ -194,6 +241,38 @@ public class TestDataGenerator {
         );
     }
 
+    /**
+     * Genera un lote columnar de n usuarios únicos
+     * Requerimientos: 7.1
+     */
+    public static UserBatch generateUsers(int n) {
+        return generateUsers(n, false);
+    }
+
+    /**
+     * Genera un lote columnar de n usuarios únicos, opcionalmente en paralelo
+     * Requerimientos: 7.1
+     */
+    public static UserBatch generateUsers(int n, boolean parallel) {
+        return new UserBatch(n).fill(parallel);
+    }
+
+    /**
+     * Genera un lote columnar de n tareas únicas
+     * Requerimientos: 7.1
+     */
+    public static TaskBatch generateTasks(int n) {
+        return generateTasks(n, false);
+    }
+
+    /**
+     * Genera un lote columnar de n tareas únicas, opcionalmente en paralelo
+     * Requerimientos: 7.1
+     */
+    public static TaskBatch generateTasks(int n, boolean parallel) {
+        return new TaskBatch(n).fill(parallel);
+    }
+
     /**
      * Genera email inválido para pruebas negativas
      * Requerimientos: 7.1
@@ -208,7 +287,7 @@ public class TestDataGenerator {
             "user name@domain.com", // Espacio en parte local
             "user@domain .com" // Espacio en dominio
         };
-        return invalidEmails[random.nextInt(invalidEmails.length)];
+        return invalidEmails[random().nextInt(invalidEmails.length)];
     }
 
     /**
@@ -221,17 +300,92 @@ public class TestDataGenerator {
     }
 
     /**
-     * Método auxiliar para mezclar un string
+     * Generador aleatorio del hilo actual, sin contención entre hilos
      */
-    private static String shuffleString(String input) {
-        char[] characters = input.toCharArray();
-        for (int i = 0; i < characters.length; i++) {
-            int randomIndex = random.nextInt(characters.length);
-            char temp = characters[i];
-            characters[i] = characters[randomIndex];
-            characters[randomIndex] = temp;
+    private static ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * Registra como usado en el ambiente actual un email, usuario o título que se
+     * envía al servidor, para que ninguna ejecución posterior lo vuelva a generar
+     */
+    public static void markUsed(String identifier) {
+        UsedIdentifierFilter filter = UsedIdentifierFilter.forCurrentEnvironment();
+        if (filter != null && identifier != null && !identifier.isEmpty()) {
+            filter.claim(identifier);
+        }
+    }
+
+    /**
+     * Indica si el identificador pudo haberse enviado antes al ambiente actual
+     */
+    private static boolean isUsed(String identifier) {
+        UsedIdentifierFilter filter = UsedIdentifierFilter.forCurrentEnvironment();
+        return filter != null && filter.mightContain(identifier);
+    }
+
+    private static IllegalStateException filterSaturated(String kind) {
+        UsedIdentifierFilter filter = UsedIdentifierFilter.forCurrentEnvironment();
+        return new IllegalStateException(String.format(
+                "No se pudo generar un %s nuevo en %d intentos: el filtro de identificadores usados del ambiente %s"
+                        + " está al %.0f%% (se rota al abrirlo sobre el %.0f%%)",
+                kind, MAX_UNUSED_ATTEMPTS, AppConfig.getEnvironmentName(),
+                filter == null ? 0.0 : filter.getFillRatio() * 100, UsedIdentifierFilter.MAX_FILL_RATIO * 100));
+    }
+
+    /**
+     * Buffer de texto del hilo actual, vacío y listo para usar
+     */
+    private static StringBuilder buffer() {
+        StringBuilder buffer = textBuffer.get();
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    /**
+     * Buffer de caracteres del hilo actual con capacidad para al menos length
+     */
+    private static char[] passwordChars(int length) {
+        char[] chars = passwordBuffer.get();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            passwordBuffer.set(chars);
+        }
+        return chars;
+    }
+
+    /**
+     * Timestamp formateado del segundo actual; solo se vuelve a formatear al cambiar de segundo
+     */
+    private static Timestamp currentTimestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        Timestamp current = timestamp;
+        if (current.epochSecond != second) {
+            current = Timestamp.of(second);
+            timestamp = current;
+        }
+        return current;
+    }
+
+    /**
+     * Un segundo con sus dos formatos: "yyyyMMddHHmmss" y "yyyy-MM-dd HH:mm:ss"
+     */
+    private static class Timestamp {
+        private final long epochSecond;
+        private final String compact;
+        private final String readable;
+
+        private Timestamp(long epochSecond, String compact, String readable) {
+            this.epochSecond = epochSecond;
+            this.compact = compact;
+            this.readable = readable;
+        }
+
+        private static Timestamp of(long epochSecond) {
+            LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+            return new Timestamp(epochSecond, now.format(COMPACT_TIMESTAMP), now.format(READABLE_TIMESTAMP));
         }
-        return new String(characters);
     }
 
     /**
@@ -0,0 +1,116 @@
+package utils;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asignador de identificadores únicos compartido entre procesos del mismo equipo.
+ *
+ * El contador vive en un archivo mapeado en memoria (por defecto
+ * ${java.io.tmpdir}/sentra-test-ids.counter, -Dtestdata.counter.file) y se
+ * incrementa con una operación atómica sobre la memoria compartida, así dos
+ * forks de Gradle o dos agentes en el mismo equipo nunca obtienen el mismo
+ * número, aunque arranquen en el mismo segundo. Cada hilo reserva bloques de
+ * números para no competir por el archivo en cada llamada.
+ *
+ * Para ejecuciones en varios equipos se agrega un componente de nodo
+ * (-Dtestdata.node, por ejemplo el nombre o número del agente de CI) delante
+ * del número: "ci3-1042". Si el archivo no se puede mapear, se usa un contador
+ * en memoria prefijado con el PID del proceso.
+ */
+public class UniqueIdAllocator {
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private static final UniqueIdAllocator shared = new UniqueIdAllocator(
+            Paths.get(System.getProperty("testdata.counter.file",
+                    Paths.get(System.getProperty("java.io.tmpdir"), "sentra-test-ids.counter").toString())),
+            System.getProperty("testdata.node", ""));
+
+    private final MappedByteBuffer counter;
+    private final AtomicLong localCounter = new AtomicLong();
+    private final String prefix;
+
+    // Bloque reservado por hilo: [siguiente, fin)
+    private final ThreadLocal<long[]> block = ThreadLocal.withInitial(() -> new long[2]);
+
+    public UniqueIdAllocator(Path counterFile, String node) {
+        this.counter = map(counterFile);
+        String nodePrefix = sanitize(node);
+        if (counter == null) {
+            nodePrefix += "p" + ProcessHandle.current().pid();
+        }
+        this.prefix = nodePrefix.isEmpty() ? "" : nodePrefix + "-";
+    }
+
+    public static UniqueIdAllocator shared() {
+        return shared;
+    }
+
+    /**
+     * Siguiente número del contador compartido
+     */
+    public long nextNumber() {
+        long[] range = block.get();
+        if (range[0] >= range[1]) {
+            long start = reserve(BLOCK_SIZE);
+            range[0] = start;
+            range[1] = start + BLOCK_SIZE;
+        }
+        return range[0]++;
+    }
+
+    /**
+     * Agrega al buffer el siguiente identificador, con el componente de nodo si existe
+     */
+    public StringBuilder appendNextId(StringBuilder target) {
+        return target.append(prefix).append(nextNumber());
+    }
+
+    public String nextId() {
+        return appendNextId(new StringBuilder(24)).toString();
+    }
+
+    /**
+     * Reserva count números consecutivos y retorna el primero (el contador parte en 1)
+     */
+    private long reserve(int count) {
+        if (counter == null) {
+            return localCounter.getAndAdd(count) + 1;
+        }
+        return (long) LONG_VIEW.getAndAdd(counter, 0, (long) count) + 1;
+    }
+
+    private static MappedByteBuffer map(Path counterFile) {
+        try {
+            if (counterFile.getParent() != null) {
+                Files.createDirectories(counterFile.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(counterFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // El mapeo sigue válido después de cerrar el canal
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Warning: Could not map unique id counter " + counterFile + ": " + e.getMessage()
+                    + ". Falling back to a per-process counter.");
+            return null;
+        }
+    }
+
+    private static String sanitize(String node) {
+        return node == null ? "" : node.trim().toLowerCase().replaceAll("[^a-z0-9]", "");
+    }
+}
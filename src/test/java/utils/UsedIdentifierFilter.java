@@ -0,0 +1,247 @@
+package utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro persistente de los identificadores ya entregados (emails, usuarios,
+ * títulos) para un ambiente, así una ejecución nunca reutiliza un email que
+ * otra ejecución ya registró en el mismo servidor.
+ *
+ * Se guardan dos archivos por ambiente en ~/.sentra-tests/used-identifiers
+ * (-Dtestdata.used.dir):
+ * - &lt;ambiente&gt;.bloom: filtro de Bloom de 4 MB mapeado en memoria; consultar y
+ *   marcar cuesta O(1) y sirve para varios millones de identificadores.
+ * - &lt;ambiente&gt;.log: registro exacto, una línea por identificador. Es la fuente
+ *   de verdad: si el filtro se pierde, se reconstruye desde aquí.
+ *
+ * Solo se marcan los identificadores que de verdad se envían al servidor (ver
+ * TestDataGenerator.markUsed); generar datos solo consulta el filtro. Un falso
+ * positivo solo hace que se descarte un identificador nuevo y se genere otro,
+ * nunca que se repita uno usado. Los bits se marcan con operaciones atómicas sobre
+ * el archivo mapeado, por lo que varios procesos pueden usar el mismo ambiente a la vez.
+ *
+ * Si al abrirlo el filtro supera su capacidad de diseño (más de la mitad de los
+ * bits encendidos, unos 3 millones de entradas), se rota: el log se archiva como
+ * &lt;ambiente&gt;.&lt;fecha&gt;.log y el filtro empieza vacío. Es seguro porque todos los
+ * identificadores llevan el timestamp de su generación, que no se repite.
+ * Se desactiva con -Dtestdata.used.filter=false.
+ */
+public class UsedIdentifierFilter {
+
+    // 2^25 bits = 4 MB; con 7 funciones hash, ~0.001% de falsos positivos con 1 millón de entradas
+    private static final int BITS_LOG2 = 25;
+    private static final long BIT_MASK = (1L << BITS_LOG2) - 1;
+    private static final int FILTER_BYTES = 1 << (BITS_LOG2 - 3);
+    private static final int HASHES = 7;
+    private static final long TOTAL_BITS = 1L << BITS_LOG2;
+
+    // Con la mitad de los bits encendidos los falsos positivos ya rondan el 1%
+    static final double MAX_FILL_RATIO = 0.5;
+
+    private static final DateTimeFormatter ARCHIVE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private static final VarHandle LONG_VIEW =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final MappedByteBuffer bits;
+    private FileChannel log;
+
+    // Bits encendidos: contados al abrir y sumados desde este proceso
+    private final AtomicLong setBits = new AtomicLong();
+
+    private UsedIdentifierFilter(MappedByteBuffer bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Filtro del ambiente actual (AppConfig.getEnvironmentName()), o null si está
+     * desactivado o no se pudo abrir
+     */
+    public static UsedIdentifierFilter forCurrentEnvironment() {
+        return CurrentEnvironment.FILTER;
+    }
+
+    /**
+     * Abre (o crea) el filtro de un ambiente; retorna null si no se puede
+     */
+    public static UsedIdentifierFilter open(Path directory, String environment) {
+        Path bloomFile = directory.resolve(environment + ".bloom");
+        Path logFile = directory.resolve(environment + ".log");
+        try {
+            Files.createDirectories(directory);
+            boolean rebuild = !Files.isRegularFile(bloomFile) || Files.size(bloomFile) != FILTER_BYTES;
+
+            MappedByteBuffer bits;
+            try (FileChannel channel = FileChannel.open(bloomFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                bits = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILTER_BYTES);
+            }
+
+            UsedIdentifierFilter filter = new UsedIdentifierFilter(bits);
+            if (rebuild) {
+                filter.rebuildFrom(logFile);
+            }
+            filter.setBits.set(filter.countBits());
+            if (filter.getFillRatio() > MAX_FILL_RATIO) {
+                filter.rotate(logFile, environment);
+            }
+            filter.log = FileChannel.open(logFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            return filter;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Warning: Could not open used identifier filter in " + directory + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Marca el identificador como usado. Retorna false si ya estaba marcado (o es un
+     * falso positivo del filtro): quien llama debe generar otro.
+     */
+    public boolean claim(String identifier) {
+        if (!markBits(identifier)) {
+            return false;
+        }
+        append(identifier);
+        return true;
+    }
+
+    /**
+     * Indica si el identificador podría haberse entregado antes (sin falsos negativos)
+     */
+    public boolean mightContain(String identifier) {
+        long h1 = hash(identifier);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            long bit = (h1 + i * h2) & BIT_MASK;
+            long word = (long) LONG_VIEW.getVolatile(bits, (int) (bit >>> 6) << 3);
+            if ((word & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fracción de bits encendidos; sobre {@link #MAX_FILL_RATIO} los falsos positivos
+     * crecen rápido y generar identificadores nuevos empieza a fallar
+     */
+    public double getFillRatio() {
+        return (double) setBits.get() / TOTAL_BITS;
+    }
+
+    /**
+     * Enciende los bits del identificador; retorna true si al menos uno estaba apagado
+     */
+    private boolean markBits(String identifier) {
+        long h1 = hash(identifier);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean changed = false;
+        for (int i = 0; i < HASHES; i++) {
+            long bit = (h1 + i * h2) & BIT_MASK;
+            long mask = 1L << (bit & 63);
+            long previous = (long) LONG_VIEW.getAndBitwiseOr(bits, (int) (bit >>> 6) << 3, mask);
+            if ((previous & mask) == 0) {
+                changed = true;
+                setBits.incrementAndGet();
+            }
+        }
+        return changed;
+    }
+
+    private synchronized void append(String identifier) {
+        ByteBuffer line = ByteBuffer.wrap((identifier + "\n").getBytes(StandardCharsets.UTF_8));
+        try {
+            while (line.hasRemaining()) {
+                log.write(line);
+            }
+        } catch (IOException e) {
+            System.out.println("Warning: Could not append to used identifier log: " + e.getMessage());
+        }
+    }
+
+    private long countBits() {
+        long count = 0;
+        for (int offset = 0; offset < FILTER_BYTES; offset += Long.BYTES) {
+            count += Long.bitCount((long) LONG_VIEW.getVolatile(bits, offset));
+        }
+        return count;
+    }
+
+    /**
+     * Archiva el log y vacía el filtro; los identificadores anteriores llevan un
+     * timestamp pasado, así que no pueden volver a generarse
+     */
+    private void rotate(Path logFile, String environment) throws IOException {
+        System.out.println(String.format("Warning: Used identifier filter for %s is %.0f%% full, rotating it",
+                environment, getFillRatio() * 100));
+        if (Files.isRegularFile(logFile)) {
+            Path archive = logFile.resolveSibling(environment + "." + ARCHIVE_SUFFIX.format(LocalDateTime.now()) + ".log");
+            Files.move(logFile, archive, StandardCopyOption.REPLACE_EXISTING);
+        }
+        for (int offset = 0; offset < FILTER_BYTES; offset += Long.BYTES) {
+            LONG_VIEW.setVolatile(bits, offset, 0L);
+        }
+        setBits.set(0);
+    }
+
+    private void rebuildFrom(Path logFile) throws IOException {
+        if (!Files.isRegularFile(logFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(logFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    markBits(line);
+                }
+            }
+        }
+    }
+
+    // Se abre una sola vez, en el primer uso
+    private static class CurrentEnvironment {
+        private static final UsedIdentifierFilter FILTER = openCurrent();
+
+        private static UsedIdentifierFilter openCurrent() {
+            if (!Boolean.parseBoolean(System.getProperty("testdata.used.filter", "true"))) {
+                return null;
+            }
+            Path directory = Paths.get(System.getProperty("testdata.used.dir",
+                    Paths.get(System.getProperty("user.home"), ".sentra-tests", "used-identifiers").toString()));
+            return open(directory, AppConfig.getEnvironmentName());
+        }
+    }
+
+    // FNV-1a de 64 bits sobre los caracteres, mezclado para repartir los bits altos
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
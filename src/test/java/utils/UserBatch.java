@@ -0,0 +1,82 @@
+package utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import utils.TestDataGenerator.UserTestData;
+
+/**
+ * Lote de usuarios de prueba en formato columnar: un arreglo por campo en lugar
+ * de un objeto por usuario. Pensado para escenarios de volumen y para sembrar
+ * datos, donde se generan miles de registros de una vez.
+ * Requerimientos: 7.1
+ */
+public class UserBatch {
+
+    private static final String CSV_HEADER = "firstName,lastName,email,password";
+
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final String[] emails;
+    private final String[] passwords;
+
+    UserBatch(int size) {
+        this.firstNames = new String[size];
+        this.lastNames = new String[size];
+        this.emails = new String[size];
+        this.passwords = new String[size];
+    }
+
+    /**
+     * Llena todas las filas; en paralelo cada hilo usa su propio Random y buffer
+     */
+    UserBatch fill(boolean parallel) {
+        IntStream rows = IntStream.range(0, size());
+        (parallel ? rows.parallel() : rows).forEach(i -> {
+            firstNames[i] = TestDataGenerator.generateFirstName();
+            lastNames[i] = TestDataGenerator.generateLastName();
+            emails[i] = TestDataGenerator.generateUniqueEmail();
+            passwords[i] = TestDataGenerator.generatePassword();
+        });
+        return this;
+    }
+
+    public int size() {
+        return emails.length;
+    }
+
+    public String[] getFirstNames() { return firstNames; }
+    public String[] getLastNames() { return lastNames; }
+    public String[] getEmails() { return emails; }
+    public String[] getPasswords() { return passwords; }
+
+    /**
+     * Fila i como objeto, para reutilizar los steps que reciben UserTestData
+     */
+    public UserTestData get(int i) {
+        return new UserTestData(firstNames[i], lastNames[i], emails[i], passwords[i]);
+    }
+
+    /**
+     * Escribe el lote como CSV con encabezado (por ejemplo para Examples de un Scenario Outline)
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        out.append(CSV_HEADER).append('\n');
+        for (int i = 0; i < size(); i++) {
+            TaskBatch.appendCsv(out, firstNames[i]).append(',');
+            TaskBatch.appendCsv(out, lastNames[i]).append(',');
+            TaskBatch.appendCsv(out, emails[i]).append(',');
+            TaskBatch.appendCsv(out, passwords[i]).append('\n');
+        }
+    }
+
+    public void writeCsv(Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeCsv(out);
+        }
+    }
+}
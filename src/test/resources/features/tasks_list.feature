@@ -24,15 +24,18 @@ Scenario: Crear nueva tarea sin titulo
 
 @sortTitle
 Scenario: Ordenar tareas por titulo
+  Given existen 50 tareas de prueba
   When ordena las tareas por titulo
   Then las tareas quedan ordenadas alfabeticamente por titulo
 
 @sortPriority
 Scenario: Ordenar tareas por prioridad
+  Given existen 50 tareas de prueba
   When ordena las tareas por prioridad
   Then las tareas quedan ordenadas por prioridad
 
 @sortDate
 Scenario: Ordenar tareas por fecha termino
+  Given existen 50 tareas de prueba
   When ordena las tareas por fecha termino
   Then las tareas quedan ordenadas por fecha termino
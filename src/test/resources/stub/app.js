@@ -0,0 +1,420 @@
+/*
+ * SPA de reemplazo de Sentra Tasks (servida por server.SentraStubServer).
+ *
+ * Reproduce la estructura y los textos que usan los Page Objects: clases MUI,
+ * aria-labels de la paginación, etiquetas de los formularios y botones de los
+ * modales. Los datos se leen y escriben en la API JSON del servidor.
+ */
+(function () {
+  'use strict';
+
+  var ROWS_PER_PAGE = 5;
+  var root = document.getElementById('root');
+  var state = { user: null, tasks: [], page: 0, sortKey: null, sortAsc: true, alert: null };
+
+  // ---------- Utilidades ----------
+
+  function el(tag, attrs, children) {
+    var node = document.createElement(tag);
+    Object.keys(attrs || {}).forEach(function (key) {
+      var value = attrs[key];
+      if (key === 'onclick' || key === 'onsubmit') {
+        node[key] = value;
+      } else if (value === true) {
+        node.setAttribute(key, '');
+      } else if (value !== false && value !== null && value !== undefined) {
+        node.setAttribute(key, value);
+      }
+    });
+    (children || []).forEach(function (child) {
+      if (child === null || child === undefined) return;
+      node.appendChild(typeof child === 'string' ? document.createTextNode(child) : child);
+    });
+    return node;
+  }
+
+  function api(method, path, body) {
+    return fetch(path, {
+      method: method,
+      credentials: 'same-origin',
+      headers: body ? { 'Content-Type': 'application/json' } : {},
+      body: body ? JSON.stringify(body) : undefined
+    }).then(function (response) {
+      return response.json().catch(function () { return {}; }).then(function (data) {
+        return { ok: response.ok, status: response.status, data: data };
+      });
+    });
+  }
+
+  function alertBox(kind, text) {
+    // Las clases en minúscula son las que buscan los selectores [class*='error'] / [class*='success']
+    return el('div', { 'class': 'MuiAlert-root alert-' + kind, role: 'alert' }, [
+      el('div', { 'class': 'MuiAlert-message' }, [text])
+    ]);
+  }
+
+  function setAlert(container, kind, text) {
+    container.innerHTML = '';
+    if (text) container.appendChild(alertBox(kind, text));
+  }
+
+  function navigate(path) {
+    if (window.location.pathname !== path) {
+      window.history.pushState({}, '', path);
+    }
+    // Home vuelve a leer las tareas cada vez que se entra, como la aplicación real
+    if (path === '/home' && state.user) {
+      loadTasks().then(render);
+    } else {
+      render();
+    }
+  }
+
+  function valueOf(dialog, selector) {
+    var input = dialog.querySelector(selector);
+    return input ? input.value : '';
+  }
+
+  // ---------- Modales ----------
+
+  function openDialog(title, body, actions) {
+    closeDialog();
+    var dialog = el('div', { role: 'dialog', 'class': 'MuiDialog-paper MuiPaper-root', 'aria-modal': 'true' }, [
+      el('h2', { 'class': 'MuiDialogTitle-root' }, [title]),
+      el('div', { 'class': 'MuiDialogContent-root' }, body),
+      el('div', { 'class': 'dialog-alert' }),
+      el('div', { 'class': 'MuiDialogActions-root' }, actions)
+    ]);
+    var container = el('div', { 'class': 'MuiDialog-root MuiModal-root', id: 'dialog-root' }, [
+      el('div', { 'class': 'MuiBackdrop-root' }), dialog
+    ]);
+    container.addEventListener('keydown', function (event) {
+      if (event.key === 'Escape') closeDialog();
+    });
+    document.body.appendChild(container);
+    var first = dialog.querySelector('input, textarea');
+    if (first) first.focus();
+    return dialog;
+  }
+
+  function closeDialog() {
+    var existing = document.getElementById('dialog-root');
+    if (existing) existing.parentNode.removeChild(existing);
+  }
+
+  function field(label, input) {
+    return el('div', { 'class': 'MuiFormControl-root MuiTextField-root' }, [
+      el('label', { 'class': 'MuiInputLabel-root' }, [label]),
+      el('div', { 'class': 'MuiInputBase-root MuiOutlinedInput-root' }, [input])
+    ]);
+  }
+
+  function button(text, variant, onclick, extraClass, type) {
+    var classes = 'MuiButtonBase-root MuiButton-root MuiButton-' + variant + (extraClass ? ' ' + extraClass : '');
+    return el('button', { type: type || 'button', 'class': classes, onclick: onclick }, [text]);
+  }
+
+  function submitDialog(dialog, method, path, body, onSuccess) {
+    api(method, path, body).then(function (result) {
+      if (result.ok) {
+        closeDialog();
+        onSuccess(result.data);
+      } else {
+        setAlert(dialog.querySelector('.dialog-alert'), 'error', result.data.message || 'Error');
+      }
+    });
+  }
+
+  function openRegisterDialog() {
+    // Nombre/Apellido y las dos contraseñas son hermanos, como esperan los selectores :first-of-type
+    var dialog = openDialog('Crear Nuevo Usuario', [
+      el('form', { novalidate: true, onsubmit: function (event) {
+        event.preventDefault();
+        submitDialog(dialog, 'POST', '/api/users', {
+          firstName: valueOf(dialog, '.name-row input:nth-of-type(1)'),
+          lastName: valueOf(dialog, '.name-row input:nth-of-type(2)'),
+          email: valueOf(dialog, 'input[type=email]'),
+          password: valueOf(dialog, '.password-row input:nth-of-type(1)'),
+          repeatPassword: valueOf(dialog, '.password-row input:nth-of-type(2)')
+        }, function (data) {
+          state.alert = { kind: 'success', text: data.message };
+          render();
+        });
+      } }, [
+        el('div', { 'class': 'form-row name-row' }, [
+          el('label', {}, ['Nombre']), el('input', { type: 'text', 'class': 'MuiInputBase-input' }),
+          el('label', {}, ['Apellido']), el('input', { type: 'text', 'class': 'MuiInputBase-input' })
+        ]),
+        el('div', { 'class': 'form-row' }, [
+          el('label', {}, ['E-Mail']), el('input', { type: 'email', 'class': 'MuiInputBase-input' })
+        ]),
+        el('div', { 'class': 'form-row password-row' }, [
+          el('label', {}, ['Escribe tu contraseña']), el('input', { type: 'password', 'class': 'MuiInputBase-input' }),
+          el('label', {}, ['Repite tu contraseña']), el('input', { type: 'password', 'class': 'MuiInputBase-input' })
+        ]),
+        el('div', { 'class': 'form-actions' }, [
+          button('Cancelar', 'text', closeDialog),
+          button('Registrar', 'contained', null, null, 'submit')
+        ])
+      ])
+    ], []);
+  }
+
+  function openEditUserDialog() {
+    var dialog = openDialog('Editar Datos Usuario', [
+      field('Nombre', el('input', { type: 'text', 'class': 'MuiInputBase-input', value: state.user.firstName })),
+      field('Apellido', el('input', { type: 'text', 'class': 'MuiInputBase-input', value: state.user.lastName })),
+      field('Email', el('input', { type: 'email', 'class': 'MuiInputBase-input', value: state.user.email }))
+    ], [
+      button('Cancelar', 'text', closeDialog),
+      button('Modificar', 'contained', function () {
+        var inputs = dialog.querySelectorAll('input');
+        submitDialog(dialog, 'PUT', '/api/me', {
+          firstName: inputs[0].value, lastName: inputs[1].value, email: inputs[2].value
+        }, function (data) {
+          state.alert = { kind: 'success', text: data.message };
+          loadUser().then(render);
+        });
+      })
+    ]);
+  }
+
+  function openChangePasswordDialog() {
+    // Los tres campos son hermanos: //input[@type='password'][n] los distingue por posición
+    var dialog = openDialog('Cambiar Contraseña', [
+      el('div', { 'class': 'form-row password-fields' }, [
+        el('label', {}, ['Contraseña actual']), el('input', { type: 'password', 'class': 'MuiInputBase-input' }),
+        el('label', {}, ['Nueva contraseña']), el('input', { type: 'password', 'class': 'MuiInputBase-input' }),
+        el('label', {}, ['Repite la nueva contraseña']), el('input', { type: 'password', 'class': 'MuiInputBase-input' })
+      ])
+    ], [
+      button('Cancelar', 'text', closeDialog),
+      button('Cambiar contrasena', 'contained', function () {
+        var inputs = dialog.querySelectorAll('input[type=password]');
+        submitDialog(dialog, 'POST', '/api/me/password', {
+          currentPassword: inputs[0].value, newPassword: inputs[1].value, repeatPassword: inputs[2].value
+        }, function (data) {
+          state.alert = { kind: 'success', text: data.message };
+          render();
+        });
+      })
+    ]);
+  }
+
+  function openCreateTaskDialog() {
+    // Los ids repetidos (title/dueDate) son los de la aplicación real
+    var dialog = openDialog('Nueva Tarea', [
+      field('Título', el('input', { type: 'text', id: 'title', 'class': 'MuiInputBase-input MuiOutlinedInput-input' })),
+      field('Descripción', el('textarea', { id: 'title', rows: '3', 'class': 'MuiInputBase-input MuiInputBase-inputMultiline' })),
+      field('Fecha Vencimiento', el('input', { type: 'datetime-local', id: 'dueDate', 'class': 'MuiInputBase-input MuiOutlinedInput-input' })),
+      field('Prioridad', el('input', { type: 'number', id: 'dueDate', 'class': 'MuiInputBase-input MuiOutlinedInput-input' }))
+    ], [
+      button('Cancelar', 'text', closeDialog),
+      button('CREAR TAREA', 'text', function () {
+        submitDialog(dialog, 'POST', '/api/tasks', {
+          title: valueOf(dialog, 'input[type=text]'),
+          description: valueOf(dialog, 'textarea'),
+          dueDate: valueOf(dialog, 'input[type=datetime-local]'),
+          priority: valueOf(dialog, 'input[type=number]')
+        }, function () {
+          loadTasks().then(render);
+        });
+      }, 'css-1y36nkv')
+    ]);
+  }
+
+  // ---------- Vistas ----------
+
+  function renderLogin() {
+    var alertArea = el('div', { 'class': 'login-alert' });
+    if (state.alert) {
+      alertArea.appendChild(alertBox(state.alert.kind, state.alert.text));
+      state.alert = null;
+    }
+    var form = el('form', { 'class': 'login-form MuiPaper-root', novalidate: true, onsubmit: function (event) {
+      event.preventDefault();
+      var email = form.querySelector('input[type=email]').value;
+      var password = form.querySelector('input[type=password]').value;
+      if (!email || !password) {
+        setAlert(alertArea, 'error', 'Email y contraseña son requeridos');
+        return;
+      }
+      api('POST', '/api/auth/login', { email: email, password: password }).then(function (result) {
+        if (!result.ok) {
+          setAlert(alertArea, 'error', result.data.message || 'Usuario o contraseña incorrecto');
+          return;
+        }
+        state.user = result.data;
+        // La aplicación real redirige a /dashboard, que se muestra vacío
+        navigate('/dashboard');
+      });
+    } }, [
+      el('h2', {}, ['Sentra Tasks']),
+      field('Email', el('input', { type: 'email', name: 'email', 'class': 'MuiInputBase-input' })),
+      field('Contraseña', el('input', { type: 'password', name: 'password', 'class': 'MuiInputBase-input' })),
+      alertArea,
+      button('Ingresar', 'contained', null, null, 'submit')
+    ]);
+    return el('div', { 'class': 'login-page' }, [
+      form,
+      button('Crear Nuevo Usuario', 'text', openRegisterDialog)
+    ]);
+  }
+
+  function renderLayout(content) {
+    var pageAlert = el('div', { 'class': 'page-alert' });
+    if (state.alert) {
+      pageAlert.appendChild(alertBox(state.alert.kind, state.alert.text));
+      state.alert = null;
+    }
+    return el('div', { 'class': 'app-layout' }, [
+      el('header', { 'class': 'MuiAppBar-root' }, [
+        el('span', { 'class': 'app-title' }, ['Sentra Tasks']),
+        el('span', { 'class': 'user-name' }, [state.user ? state.user.firstName + ' ' + state.user.lastName : '']),
+        el('a', { href: '/logout', 'class': 'logout-link' }, [el('span', {}, ['Logout'])])
+      ]),
+      el('nav', { 'class': 'MuiDrawer-root' }, [
+        navItem('/home', 'Home'),
+        navItem('/profile', 'Perfil')
+      ]),
+      el('main', { 'class': 'app-content' }, [pageAlert].concat(content))
+    ]);
+  }
+
+  function navItem(path, label) {
+    return el('a', { href: path, 'class': 'MuiListItemButton-root', onclick: function (event) {
+      event.preventDefault();
+      navigate(path);
+    } }, [el('span', { 'class': 'MuiListItemText-primary' }, [label])]);
+  }
+
+  function sortedTasks() {
+    var tasks = state.tasks.slice();
+    if (!state.sortKey) return tasks;
+    var key = state.sortKey;
+    tasks.sort(function (a, b) {
+      var x = a[key], y = b[key];
+      if (typeof x === 'string') {
+        x = x.toLowerCase();
+        y = y.toLowerCase();
+      }
+      var result = x < y ? -1 : x > y ? 1 : 0;
+      return state.sortAsc ? result : -result;
+    });
+    return tasks;
+  }
+
+  function sortHeader(label, key) {
+    var active = state.sortKey === key;
+    return el('th', { 'class': 'MuiTableCell-root MuiTableCell-head', onclick: function () {
+      state.sortAsc = active ? !state.sortAsc : true;
+      state.sortKey = key;
+      state.page = 0;
+      render();
+    } }, [el('span', { 'class': 'MuiTableSortLabel-root' + (active ? ' Mui-active' : '') }, [label])]);
+  }
+
+  function renderHome() {
+    var tasks = sortedTasks();
+    var total = tasks.length;
+    var pages = Math.max(1, Math.ceil(total / ROWS_PER_PAGE));
+    state.page = Math.min(state.page, pages - 1);
+    var start = state.page * ROWS_PER_PAGE;
+    var visible = tasks.slice(start, start + ROWS_PER_PAGE);
+
+    var rows = visible.map(function (task) {
+      return el('tr', { 'class': 'MuiTableRow-root' }, [
+        el('td', { 'class': 'MuiTableCell-root' }, [task.title]),
+        el('td', { 'class': 'MuiTableCell-root' }, [task.createdAt]),
+        el('td', { 'class': 'MuiTableCell-root' }, [task.dueDate]),
+        el('td', { 'class': 'MuiTableCell-root' }, [String(task.priority)])
+      ]);
+    });
+
+    var shown = total === 0 ? '0–0 of 0' : (start + 1) + '–' + (start + visible.length) + ' of ' + total;
+    var pagination = el('div', { 'class': 'MuiTablePagination-root' }, [
+      el('p', { 'class': 'MuiTablePagination-selectLabel' }, ['Rows per page:']),
+      el('div', { 'class': 'MuiTablePagination-select' }, [String(ROWS_PER_PAGE)]),
+      el('p', { 'class': 'MuiTablePagination-displayedRows' }, [shown]),
+      el('div', { 'class': 'MuiTablePagination-actions' }, [
+        el('button', { type: 'button', 'class': 'MuiIconButton-root', 'aria-label': 'Go to previous page',
+          disabled: state.page === 0, onclick: function () { state.page--; render(); } }, ['‹']),
+        el('button', { type: 'button', 'class': 'MuiIconButton-root', 'aria-label': 'Go to next page',
+          disabled: state.page >= pages - 1, onclick: function () { state.page++; render(); } }, ['›'])
+      ])
+    ]);
+
+    return renderLayout([
+      el('div', { 'class': 'tasks-header' }, [
+        el('h1', {}, ['Tareas']),
+        button('NUEVA TAREA', 'contained', openCreateTaskDialog, 'css-9u3wwd')
+      ]),
+      el('div', { 'class': 'MuiTableContainer-root' }, [
+        el('table', { 'class': 'MuiTable-root' }, [
+          el('thead', {}, [el('tr', {}, [
+            sortHeader('Titulo', 'title'),
+            sortHeader('Fecha Creacion', 'createdAt'),
+            sortHeader('Fecha Vencimiento', 'dueDate'),
+            sortHeader('Prioridad', 'priority')
+          ])]),
+          el('tbody', {}, rows)
+        ])
+      ]),
+      pagination
+    ]);
+  }
+
+  function renderProfile() {
+    return renderLayout([
+      el('div', { 'class': 'profile-card MuiPaper-root' }, [
+        el('h4', {}, [state.user.firstName + ' ' + state.user.lastName]),
+        el('p', {}, [state.user.email]),
+        button('Editar Datos Usuario', 'contained', openEditUserDialog),
+        button('Cambiar Contrasena', 'outlined', openChangePasswordDialog)
+      ])
+    ]);
+  }
+
+  // ---------- Datos y enrutamiento ----------
+
+  function loadUser() {
+    return api('GET', '/api/me').then(function (result) {
+      state.user = result.ok ? result.data : null;
+    });
+  }
+
+  function loadTasks() {
+    return api('GET', '/api/tasks').then(function (result) {
+      state.tasks = result.ok ? result.data : [];
+    });
+  }
+
+  function render() {
+    var path = window.location.pathname;
+    var view;
+    if (path === '/' || path === '/login') {
+      view = renderLogin();
+    } else if (!state.user) {
+      // Primera carga de una ruta protegida: se leen los datos y se vuelve a dibujar
+      Promise.all([loadUser(), loadTasks()]).then(function () {
+        if (state.user) {
+          render();
+        } else {
+          window.location.replace('/login');
+        }
+      });
+      return;
+    } else if (path === '/home') {
+      view = renderHome();
+    } else if (path === '/profile') {
+      view = renderProfile();
+    } else {
+      view = renderLayout([]);
+    }
+    root.innerHTML = '';
+    root.appendChild(view);
+  }
+
+  window.addEventListener('popstate', render);
+  render();
+})();